@@ -56,6 +56,7 @@ import com.starrocks.server.RunMode;
 import com.starrocks.service.ExecuteEnv;
 import com.starrocks.service.FrontendOptions;
 import com.starrocks.service.FrontendThriftServer;
+import com.starrocks.sql.parser.SqlParser;
 import com.starrocks.staros.StarMgrServer;
 import org.apache.commons.cli.BasicParser;
 import org.apache.commons.cli.CommandLine;
@@ -157,6 +158,8 @@ public class StarRocksFE {
 
             CoordinatorMonitor.getInstance().start();
 
+            SqlParser.warmUp();
+
             // init and start:
             // 1. QeService for MySQL Server
             // 2. FrontendThriftServer for Thrift Server
@@ -160,16 +160,17 @@ public class TabletInvertedIndex implements MemoryTrackable {
             Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
             // traverse replicas in meta with this backend
             for (Map.Entry<Long, Replica> entry : replicaMetaWithBackend.entrySet()) {
-                long tabletId = entry.getKey();
-                Preconditions.checkState(tabletMetaMap.containsKey(tabletId));
+                // keep the boxed key, it is used for several map lookups and inserts below
+                Long tabletId = entry.getKey();
                 TabletMeta tabletMeta = tabletMetaMap.get(tabletId);
+                Preconditions.checkState(tabletMeta != null);
 
                 if (tabletMeta.isLakeTablet()) {
                     continue;
                 }
 
-                if (backendTablets.containsKey(tabletId)) {
-                    TTablet backendTablet = backendTablets.get(tabletId);
+                TTablet backendTablet = backendTablets.get(tabletId);
+                if (backendTablet != null) {
                     Replica replica = entry.getValue();
                     for (TTabletInfo backendTabletInfo : backendTablet.getTablet_infos()) {
                         if (backendTabletInfo.isSetIs_error_state()) {
@@ -199,8 +200,9 @@ public class TabletInvertedIndex implements MemoryTrackable {
                                 replica.setSchemaHash(backendTabletInfo.getSchema_hash());
                             }
 
-                            if (!isRestoreReplica(replica, this.replicaToTabletMap, this.tabletMetaMap) &&
-                                    needRecover(replica, tabletMeta.getOldSchemaHash(), backendTabletInfo)) {
+                            // needRecover() is cheap and rarely true, check it before looking up the table
+                            if (needRecover(replica, tabletMeta.getOldSchemaHash(), backendTabletInfo) &&
+                                    !isRestoreReplica(tabletMeta)) {
                                 LOG.warn("replica {} of tablet {} on backend {} need recovery. "
                                                 + "replica in FE: {}, report version {}, report schema hash: {},"
                                                 + " is bad: {}",
@@ -531,13 +533,7 @@ public class TabletInvertedIndex implements MemoryTrackable {
         }
     }
 
-    private boolean isRestoreReplica(Replica replica, Map<Long, Long> replicaToTabletMap, Map<Long, TabletMeta> tabletMetaMap) {
-        Long tabletId = replicaToTabletMap.get(replica.getId());
-        TabletMeta tabletMeta = null;
-        if (tabletId != null) {
-            tabletMeta = tabletMetaMap.get(tabletId);
-        }
-
+    private boolean isRestoreReplica(TabletMeta tabletMeta) {
         if (tabletMeta != null) {
             long dbId = tabletMeta.getDbId();
             long tableId = tabletMeta.getTableId();
@@ -726,7 +722,6 @@ public class TabletInvertedIndex implements MemoryTrackable {
                 Replica replica = replicaMetaTable.remove(tabletId, backendId);
                 assert replica != null;
                 replicaToTabletMap.remove(replica.getId());
-                replicaMetaTable.remove(tabletId, backendId);
                 backingReplicaMetaTable.remove(backendId, tabletId);
                 LOG.debug("delete replica {} of tablet {} in backend {}",
                         replica.getId(), tabletId, backendId);
@@ -786,11 +781,11 @@ public class TabletInvertedIndex implements MemoryTrackable {
     }
 
     public List<Long> getTabletIdsByBackendId(long backendId) {
-        List<Long> tabletIds = Lists.newArrayList();
+        List<Long> tabletIds;
         readLock();
         try {
             Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
-            tabletIds.addAll(replicaMetaWithBackend.keySet());
+            tabletIds = new ArrayList<>(replicaMetaWithBackend.keySet());
         } finally {
             readUnlock();
         }
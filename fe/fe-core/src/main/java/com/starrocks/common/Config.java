@@ -428,6 +428,17 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static int edit_log_write_slow_log_threshold_ms = 2000;
 
+    /**
+     * Compress journal entities larger than journal_compression_threshold_bytes before writing them into bdbje,
+     * which reduces the bdbje log size and the replication traffic to followers for large operations.
+     * Only enable it after all FEs are upgraded, FEs of older versions can not replay compressed journals.
+     */
+    @ConfField(mutable = true)
+    public static boolean enable_journal_compression = false;
+
+    @ConfField(mutable = true)
+    public static int journal_compression_threshold_bytes = 64 * 1024;
+
     /**
      * whether ignore unknown log id
      * when fe rolls back to low version, there may be log id that low version fe can not recognise
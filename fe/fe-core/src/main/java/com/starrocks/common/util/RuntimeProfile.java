@@ -267,7 +267,7 @@ public class RuntimeProfile {
         }
 
         // update this level's counters
-        if (!isNodeOld && node.counters != null) {
+        if (!isNodeOld && node.counters != null && !updateExistingCounters(node.counters)) {
             // mapping from counterName to parentCounterName
             Map<String, String> child2ParentMap = Maps.newHashMap();
             if (node.child_counters_map != null) {
@@ -358,6 +358,25 @@ public class RuntimeProfile {
         }
     }
 
+    // All the counters of a profile are normally created by its first report and only change value
+    // afterwards, so set them in place without rebuilding the counter hierarchy. Returns false as soon as
+    // a counter that does not exist yet shows up, and the caller then goes through the full update.
+    private boolean updateExistingCounters(List<TCounter> tCounters) {
+        for (TCounter tcounter : tCounters) {
+            Pair<Counter, String> pair = counterMap.get(tcounter.name);
+            if (pair == null) {
+                return false;
+            }
+            if (pair.first.getType() != tcounter.type) {
+                LOG.error("Cannot update counters with the same name but different types"
+                        + " type=" + tcounter.type);
+            } else {
+                pair.first.setValue(tcounter.value);
+            }
+        }
+        return true;
+    }
+
     // Print the profile:
     //  1. Profile Name
     //  2. Info Strings
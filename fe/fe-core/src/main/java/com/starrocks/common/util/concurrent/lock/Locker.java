@@ -35,6 +35,7 @@ import java.util.concurrent.TimeUnit;
 
 public class Locker {
     private static final Logger LOG = LogManager.getLogger(Locker.class);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
     /* The rid of the lock that this locker is waiting for. */
     private Long waitingForRid;
@@ -56,7 +57,7 @@ public class Locker {
         this.waitingForType = null;
         /* Save the thread used to create the locker and thread stack. */
         this.lockerThread = Thread.currentThread();
-        this.lockerStackTrace = getStackTrace(this.lockerThread);
+        this.lockerStackTrace = getStackTrace();
     }
 
     /**
@@ -400,11 +401,15 @@ public class Locker {
         waitingForType = null;
     }
 
-    private String getStackTrace(Thread thread) {
-        StackTraceElement[] stackTrace = thread.getStackTrace();
-        StackTraceElement element = stackTrace[3];
-        int lastIdx = element.getClassName().lastIndexOf(".");
-        return element.getClassName().substring(lastIdx + 1) + "." + element.getMethodName() + "():" + element.getLineNumber();
+    private String getStackTrace() {
+        // Only the caller of the constructor is needed. Walk just those frames instead of
+        // materializing the whole thread stack, a Locker is created for every lock operation.
+        StackWalker.StackFrame frame = STACK_WALKER.walk(frames -> frames.skip(2).findFirst().orElse(null));
+        if (frame == null) {
+            return "";
+        }
+        int lastIdx = frame.getClassName().lastIndexOf(".");
+        return frame.getClassName().substring(lastIdx + 1) + "." + frame.getMethodName() + "():" + frame.getLineNumber();
     }
 
     public String getLockerStackTrace() {
@@ -116,28 +116,25 @@ public class HttpResultSender {
         context.getState().setEof();
     }
 
-    // BE already transferred results into json format, FE just need to Forward json objects to the client
+    // BE already transferred results into json format, FE just need to Forward json objects to the client.
+    // All rows of a batch are wrapped into one composite buffer without copying them, so the batch goes
+    // through the netty pipeline with a single write and flush instead of one per row.
     private void writeResultBatch(TResultBatch resultBatch, ChannelHandlerContext channel, Coordinator coord) {
-        int rowsSize = resultBatch.getRowsSize();
-        for (ByteBuffer row : resultBatch.getRows()) {
-            // when channel is not writeable, sleep a while to balance read/write speed to avoid oom
-            while (!channel.channel().isWritable()) {
-                // if channel is closed, cancel query
-                if (!channel.channel().isActive()) {
-                    coord.cancel("channel is closed, cancel query");
-                    return;
-                }
-                Thread.yield();
-            }
-            if (row != resultBatch.getRows().get(rowsSize - 1)) {
-                channel.write(Unpooled.wrappedBuffer(row));
-                if (!channel.channel().isWritable()) {
-                    channel.flush();
-                }
-            } else {
-                channel.writeAndFlush(Unpooled.wrappedBuffer(row));
+        if (resultBatch.getRowsSize() == 0) {
+            return;
+        }
+        // when channel is not writeable, sleep a while to balance read/write speed to avoid oom
+        while (!channel.channel().isWritable()) {
+            // if channel is closed, cancel query
+            if (!channel.channel().isActive()) {
+                coord.cancel("channel is closed, cancel query");
+                return;
             }
+            Thread.yield();
         }
+        ByteBuf rows = Unpooled.wrappedBuffer(resultBatch.getRows().toArray(new ByteBuffer[0]));
+        context.updateReturnBytes(rows.readableBytes());
+        channel.writeAndFlush(rows);
     }
 
     private void sendHeader(ChannelHandlerContext nettyChannel) {
@@ -50,6 +50,7 @@ import com.starrocks.catalog.MetaVersion;
 import com.starrocks.catalog.Resource;
 import com.starrocks.cluster.Cluster;
 import com.starrocks.common.Config;
+import com.starrocks.common.io.DataOutputBuffer;
 import com.starrocks.common.io.Text;
 import com.starrocks.common.io.Writable;
 import com.starrocks.common.util.SmallFileMgr.SmallFile;
@@ -65,6 +66,7 @@ import com.starrocks.load.loadv2.LoadJob.LoadJobStateUpdateInfo;
 import com.starrocks.load.loadv2.LoadJobFinalOperation;
 import com.starrocks.load.routineload.RoutineLoadJob;
 import com.starrocks.load.streamload.StreamLoadTask;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.persist.AddPartitionsInfo;
 import com.starrocks.persist.AddPartitionsInfoV2;
 import com.starrocks.persist.AddSubPartitionsInfoV2;
@@ -168,9 +170,14 @@ import com.starrocks.transaction.TransactionStateBatch;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 // this is the value written to bdb or local edit files. key is an auto-increasing long.
 public class JournalEntity implements Writable {
@@ -205,8 +212,49 @@ public class JournalEntity implements Writable {
         data.write(out);
     }
 
+    /**
+     * Wrap a serialized journal entity into an OP_COMPRESSED_JOURNAL entity if it is large enough and compression
+     * actually makes it smaller. The wrapper is unwrapped transparently in {@link #readFields(DataInput)}, so the
+     * replayed entity always carries the original op code.
+     */
+    public static DataOutputBuffer compress(DataOutputBuffer raw) throws IOException {
+        long startTimeNano = System.nanoTime();
+        DataOutputBuffer compressed = new DataOutputBuffer(raw.getLength() / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream dos = new DeflaterOutputStream(compressed, deflater)) {
+            dos.write(raw.getData(), 0, raw.getLength());
+        } finally {
+            deflater.end();
+        }
+
+        if (compressed.getLength() + 6 >= raw.getLength()) {
+            return raw;
+        }
+        DataOutputBuffer out = new DataOutputBuffer(compressed.getLength() + 6);
+        out.writeShort(OperationType.OP_COMPRESSED_JOURNAL);
+        out.writeInt(compressed.getLength());
+        out.write(compressed.getData(), 0, compressed.getLength());
+
+        if (MetricRepo.hasInit) {
+            MetricRepo.COUNTER_JOURNAL_COMPRESS_RAW_BYTES.increase((long) raw.getLength());
+            MetricRepo.COUNTER_JOURNAL_COMPRESS_BYTES.increase((long) out.getLength());
+            MetricRepo.HISTO_JOURNAL_COMPRESS_LATENCY.update((System.nanoTime() - startTimeNano) / 1000);
+        }
+        return out;
+    }
+
     public void readFields(DataInput in) throws IOException {
         opCode = in.readShort();
+        if (opCode == OperationType.OP_COMPRESSED_JOURNAL) {
+            byte[] compressed = new byte[in.readInt()];
+            in.readFully(compressed);
+            // closing the stream ends its default Inflater and releases the native zlib memory
+            try (DataInputStream dis = new DataInputStream(
+                    new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+                readFields(dis);
+            }
+            return;
+        }
         // set it to true after the entity is truly read,
         // to avoid someone forget to call read method.
         boolean isRead;
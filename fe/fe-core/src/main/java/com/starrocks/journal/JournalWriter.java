@@ -235,9 +235,14 @@ public class JournalWriter {
             MetricRepo.HISTO_JOURNAL_WRITE_BYTES.update(uncommittedEstimatedBytes);
             MetricRepo.GAUGE_STACKED_JOURNAL_NUM.setValue((long) journalQueue.size());
 
+            long batchBytes = 0;
             for (JournalTask e : currentBatchTasks) {
-                MetricRepo.COUNTER_EDIT_LOG_SIZE_BYTES.increase(e.estimatedSizeByte());
+                batchBytes += e.estimatedSizeByte();
+                // time spent in queue before the batch started, the tasks arrived after that have not waited
+                MetricRepo.HISTO_JOURNAL_QUEUE_LATENCY.update(
+                        Math.max(0L, startTimeNano - e.getStartTimeNano()) / 1000000);
             }
+            MetricRepo.COUNTER_EDIT_LOG_SIZE_BYTES.increase(batchBytes);
         }
         if (journalQueue.size() > Config.metadata_journal_max_batch_cnt) {
             LOG.warn("journal has piled up: {} in queue after consume", journalQueue.size());
@@ -49,15 +49,22 @@ public class InternalCatalogMemoryTracker implements MemoryTrackable {
     @Override
     public Map<String, Long> estimateCount() {
         long estimateCount = 0;
+        long tableCount = 0;
+        long columnCount = 0;
         List<Database> databases = new ArrayList<>(GlobalStateMgr.getCurrentState().getLocalMetastore().getIdToDb().values());
         for (Database database : databases) {
             List<Table> tables = database.getTables();
+            tableCount += tables.size();
             for (Table table : tables) {
                 Collection<Partition> partitions = table.getPartitions();
                 estimateCount += partitions.size();
+                columnCount += table.getFullSchema().size();
             }
         }
         return ImmutableMap.of("Catalog", GlobalStateMgr.getCurrentState().getCatalogMgr().getCatalogCount(),
+                               "Database", (long) databases.size(),
+                               "Table", tableCount,
+                               "Column", columnCount,
                                "Partition", estimateCount);
     }
 
@@ -107,6 +107,10 @@ public final class MetricRepo {
     public static LongCounterMetric COUNTER_QUERY_QUEUE_PENDING;
     public static LongCounterMetric COUNTER_QUERY_QUEUE_TOTAL;
     public static LongCounterMetric COUNTER_QUERY_QUEUE_TIMEOUT;
+    public static LongCounterMetric COUNTER_QUERY_DEPLOY_FRAGMENT_REUSED;
+    public static LongCounterMetric COUNTER_QUERY_DEPLOY_DESC_TBL_SKIPPED;
+    public static LongCounterMetric COUNTER_REPORT_EXEC_STATUS;
+    public static LongCounterMetric COUNTER_BATCH_REPORT_EXEC_STATUS;
 
     public static LongCounterMetric COUNTER_UNFINISHED_BACKUP_JOB;
     public static LongCounterMetric COUNTER_UNFINISHED_RESTORE_JOB;
@@ -118,6 +122,9 @@ public final class MetricRepo {
     public static LongCounterMetric COUNTER_EDIT_LOG_SIZE_BYTES;
     public static LongCounterMetric COUNTER_IMAGE_WRITE;
     public static LongCounterMetric COUNTER_IMAGE_PUSH;
+    public static LongCounterMetric COUNTER_IMAGE_WRITE_BYTES;
+    public static LongCounterMetric COUNTER_JOURNAL_COMPRESS_RAW_BYTES;
+    public static LongCounterMetric COUNTER_JOURNAL_COMPRESS_BYTES;
     public static LongCounterMetric COUNTER_TXN_REJECT;
     public static LongCounterMetric COUNTER_TXN_BEGIN;
     public static LongCounterMetric COUNTER_TXN_FAILED;
@@ -128,13 +135,22 @@ public final class MetricRepo {
     public static LongCounterMetric COUNTER_ROUTINE_LOAD_PAUSED;
     public static LongCounterMetric COUNTER_SHORTCIRCUIT_QUERY;
     public static LongCounterMetric COUNTER_SHORTCIRCUIT_RPC;
+    public static LongCounterMetric COUNTER_PLAN_CACHE_HIT;
+    public static LongCounterMetric COUNTER_PLAN_CACHE_MISS;
+    public static LongCounterMetric COUNTER_QUERY_PLAN_LOCK_FREE;
+    public static LongCounterMetric COUNTER_QUERY_PLAN_OPTIMISTIC_RETRY;
+    public static LongCounterMetric COUNTER_SQL_PARSER_SLL;
+    public static LongCounterMetric COUNTER_SQL_PARSER_LL_FALLBACK;
 
     public static Histogram HISTO_QUERY_LATENCY;
     public static Histogram HISTO_EDIT_LOG_WRITE_LATENCY;
     public static Histogram HISTO_JOURNAL_WRITE_LATENCY;
     public static Histogram HISTO_JOURNAL_WRITE_BATCH;
     public static Histogram HISTO_JOURNAL_WRITE_BYTES;
+    public static Histogram HISTO_JOURNAL_QUEUE_LATENCY;
+    public static Histogram HISTO_JOURNAL_COMPRESS_LATENCY;
     public static Histogram HISTO_SHORTCIRCUIT_RPC_LATENCY;
+    public static Histogram HISTO_QUERY_DEPLOY_LATENCY;
 
     // following metrics will be updated by metric calculator
     public static GaugeMetricImpl<Double> GAUGE_QUERY_PER_SECOND;
@@ -263,6 +279,35 @@ public final class MetricRepo {
         };
         STARROCKS_METRIC_REGISTER.addMetric(metaLogCount);
 
+        // replay lag of follower and observer
+        GaugeMetric<Long> replayLagJournalNum = new GaugeMetric<Long>(
+                "meta_replay_lag_journal_num", MetricUnit.NOUNIT,
+                "number of journals which have been received but not replayed yet, always 0 on leader") {
+            @Override
+            public Long getValue() {
+                GlobalStateMgr globalStateMgr = GlobalStateMgr.getCurrentState();
+                if (globalStateMgr.isLeader()) {
+                    return 0L;
+                }
+                return Math.max(0L, globalStateMgr.getMaxJournalId() - globalStateMgr.getReplayedJournalId());
+            }
+        };
+        STARROCKS_METRIC_REGISTER.addMetric(replayLagJournalNum);
+
+        GaugeMetric<Long> replayLagMs = new GaugeMetric<Long>(
+                "meta_replay_lag_ms", MetricUnit.MILLISECONDS,
+                "time since the leader wrote the last replayed timestamp journal, always 0 on leader") {
+            @Override
+            public Long getValue() {
+                GlobalStateMgr globalStateMgr = GlobalStateMgr.getCurrentState();
+                if (globalStateMgr.isLeader() || globalStateMgr.getSynchronizedTimeMs() <= 0) {
+                    return 0L;
+                }
+                return Math.max(0L, System.currentTimeMillis() - globalStateMgr.getSynchronizedTimeMs());
+            }
+        };
+        STARROCKS_METRIC_REGISTER.addMetric(replayLagMs);
+
         // scheduled tablet num
         GaugeMetric<Long> scheduledTabletNum = (GaugeMetric<Long>) new GaugeMetric<Long>(
                 "scheduled_tablet_num", MetricUnit.NOUNIT, "number of tablets being scheduled") {
@@ -386,6 +431,18 @@ public final class MetricRepo {
         COUNTER_QUERY_QUEUE_TIMEOUT = new LongCounterMetric("query_queue_timeout", MetricUnit.REQUESTS,
                 "total history query for timeout in queue");
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_QUERY_QUEUE_TIMEOUT);
+        COUNTER_QUERY_DEPLOY_FRAGMENT_REUSED = new LongCounterMetric("query_deploy_fragment_reused",
+                MetricUnit.REQUESTS, "total fragment instances deployed with the plan thrift shared with other instances");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_QUERY_DEPLOY_FRAGMENT_REUSED);
+        COUNTER_QUERY_DEPLOY_DESC_TBL_SKIPPED = new LongCounterMetric("query_deploy_desc_tbl_skipped",
+                MetricUnit.REQUESTS, "total fragment instances deployed without the descriptor table");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_QUERY_DEPLOY_DESC_TBL_SKIPPED);
+        COUNTER_REPORT_EXEC_STATUS = new LongCounterMetric("report_exec_status", MetricUnit.REQUESTS,
+                "total fragment instance exec status reports received from backends");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_REPORT_EXEC_STATUS);
+        COUNTER_BATCH_REPORT_EXEC_STATUS = new LongCounterMetric("batch_report_exec_status", MetricUnit.REQUESTS,
+                "total batched exec status report rpcs received from backends");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_BATCH_REPORT_EXEC_STATUS);
         COUNTER_LOAD_ADD = new LongCounterMetric("load_add", MetricUnit.REQUESTS, "total load submit");
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_LOAD_ADD);
         COUNTER_ROUTINE_LOAD_PAUSED =
@@ -407,11 +464,38 @@ public final class MetricRepo {
         COUNTER_IMAGE_PUSH = new LongCounterMetric("image_push", MetricUnit.OPERATIONS,
                 "counter of image succeeded in pushing to other frontends");
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_IMAGE_PUSH);
+        COUNTER_IMAGE_WRITE_BYTES = new LongCounterMetric("image_write_bytes", MetricUnit.BYTES,
+                "total bytes of image generated");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_IMAGE_WRITE_BYTES);
+        COUNTER_JOURNAL_COMPRESS_RAW_BYTES = new LongCounterMetric("journal_compress_raw_bytes", MetricUnit.BYTES,
+                "total bytes of journal entities before compression");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_JOURNAL_COMPRESS_RAW_BYTES);
+        COUNTER_JOURNAL_COMPRESS_BYTES = new LongCounterMetric("journal_compress_bytes", MetricUnit.BYTES,
+                "total bytes of journal entities after compression");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_JOURNAL_COMPRESS_BYTES);
 
         COUNTER_SHORTCIRCUIT_QUERY = new LongCounterMetric("shortcircuit_query", MetricUnit.REQUESTS, "total shortcircuit query");
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SHORTCIRCUIT_QUERY);
         COUNTER_SHORTCIRCUIT_RPC = new LongCounterMetric("shortcircuit_rpc", MetricUnit.REQUESTS, "total shortcircuit rpc");
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SHORTCIRCUIT_RPC);
+        COUNTER_PLAN_CACHE_HIT = new LongCounterMetric("plan_cache_hit", MetricUnit.REQUESTS,
+                "total executions of prepared statements which reuse the cached plan");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_PLAN_CACHE_HIT);
+        COUNTER_PLAN_CACHE_MISS = new LongCounterMetric("plan_cache_miss", MetricUnit.REQUESTS,
+                "total executions of prepared statements which have to build a new plan");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_PLAN_CACHE_MISS);
+        COUNTER_QUERY_PLAN_LOCK_FREE = new LongCounterMetric("query_plan_lock_free", MetricUnit.REQUESTS,
+                "total queries optimized without holding db locks");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_QUERY_PLAN_LOCK_FREE);
+        COUNTER_QUERY_PLAN_OPTIMISTIC_RETRY = new LongCounterMetric("query_plan_optimistic_retry",
+                MetricUnit.REQUESTS, "total lock free plans discarded because of concurrent metadata changes");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_QUERY_PLAN_OPTIMISTIC_RETRY);
+        COUNTER_SQL_PARSER_SLL = new LongCounterMetric("sql_parser_sll", MetricUnit.REQUESTS,
+                "total sql texts parsed by the fast SLL prediction mode");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SQL_PARSER_SLL);
+        COUNTER_SQL_PARSER_LL_FALLBACK = new LongCounterMetric("sql_parser_ll_fallback", MetricUnit.REQUESTS,
+                "total sql texts which failed in SLL prediction mode and had to be parsed again in LL mode");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SQL_PARSER_LL_FALLBACK);
 
         COUNTER_TXN_REJECT =
                 new LongCounterMetric("txn_reject", MetricUnit.REQUESTS, "counter of rejected transactions");
@@ -467,7 +551,12 @@ public final class MetricRepo {
                 METRIC_REGISTER.histogram(MetricRegistry.name("journal", "write", "batch"));
         HISTO_JOURNAL_WRITE_BYTES =
                 METRIC_REGISTER.histogram(MetricRegistry.name("journal", "write", "bytes"));
+        HISTO_JOURNAL_QUEUE_LATENCY =
+                METRIC_REGISTER.histogram(MetricRegistry.name("journal", "queue", "latency", "ms"));
+        HISTO_JOURNAL_COMPRESS_LATENCY =
+                METRIC_REGISTER.histogram(MetricRegistry.name("journal", "compress", "latency", "us"));
         HISTO_SHORTCIRCUIT_RPC_LATENCY = METRIC_REGISTER.histogram(MetricRegistry.name("shortcircuit", "latency", "ms"));
+        HISTO_QUERY_DEPLOY_LATENCY = METRIC_REGISTER.histogram(MetricRegistry.name("query", "deploy", "latency", "ms"));
 
         // init system metrics
         initSystemMetrics();
@@ -578,11 +667,7 @@ public final class MetricRepo {
     }
 
     public static void updateMemoryUsageMetrics() {
-        if (GAUGE_MEMORY_USAGE_STATS.size() ==
-                MemoryUsageTracker.MEMORY_USAGE.values().stream().mapToInt(Map::size).sum()) {
-            return;
-        }
-
+        // rebuild the gauges every time, the estimated sizes and counts change on every tracking round
         List<GaugeMetricImpl<Long>> memoryUsageGauges = new ArrayList<>();
         List<GaugeMetricImpl<Long>> objectCountGauges = new ArrayList<>();
         MemoryUsageTracker.MEMORY_USAGE.forEach((moduleName, module) -> {
@@ -248,6 +248,18 @@ public class MysqlChannel {
         channel.write(buffer);
     }
 
+    public void realNetSend(ByteBuffer[] buffers) throws IOException {
+        long bufLen = 0;
+        for (ByteBuffer buffer : buffers) {
+            bufLen += buffer.remaining();
+        }
+        long writeLen = channel.write(buffers);
+        if (bufLen != writeLen) {
+            throw new IOException("Write mysql packet failed.[write=" + writeLen
+                    + ", needToWrite=" + bufLen + "]");
+        }
+    }
+
     public void flush() throws IOException {
         if (null == sendBuffer || sendBuffer.position() == 0) {
             // Nothing to send
@@ -293,6 +305,18 @@ public class MysqlChannel {
     private void writeBuffer(ByteBuffer buffer) throws IOException {
         // If too long for buffer, send buffered data.
         if (sendBuffer.remaining() < buffer.remaining()) {
+            if (sslChannel == null && buffer.remaining() > sendBuffer.capacity()) {
+                // This packet will not fit into the buffer anyway, send the buffered data (at least
+                // the header of this packet) and the packet itself in one gathering write.
+                sendBuffer.flip();
+                try {
+                    realNetSend(new ByteBuffer[] {sendBuffer, buffer});
+                } finally {
+                    sendBuffer.clear();
+                }
+                isSend = true;
+                return;
+            }
             // Flush data in buffer.
             flush();
         }
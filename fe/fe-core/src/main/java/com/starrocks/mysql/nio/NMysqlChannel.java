@@ -72,6 +72,21 @@ public class NMysqlChannel extends MysqlChannel {
         isSend = true;
     }
 
+    @Override
+    public void realNetSend(ByteBuffer[] buffers) throws IOException {
+        long bufLen = 0;
+        for (ByteBuffer buffer : buffers) {
+            bufLen += buffer.remaining();
+        }
+        long writeLen = Channels.writeBlocking(conn.getSinkChannel(), buffers, 0, buffers.length);
+        if (bufLen != writeLen) {
+            throw new IOException("Write mysql packet failed.[write=" + writeLen
+                    + ", needToWrite=" + bufLen + "]");
+        }
+        Channels.flushBlocking(conn.getSinkChannel());
+        isSend = true;
+    }
+
     @Override
     public synchronized void close() {
         if (closed) {
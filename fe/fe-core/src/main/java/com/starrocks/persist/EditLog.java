@@ -1255,6 +1255,9 @@ public class EditLog {
             entity.setOpCode(op);
             entity.setData(writable);
             entity.write(buffer);
+            if (Config.enable_journal_compression && buffer.getLength() >= Config.journal_compression_threshold_bytes) {
+                buffer = JournalEntity.compress(buffer);
+            }
         } catch (IOException e) {
             // The old implementation swallow exception like this
             LOG.info("failed to serialize, ", e);
@@ -928,6 +928,9 @@ public class OperationType {
     @IgnorableOnReplayFailed
     public static final short OP_DISABLE_PARTITION_RECOVERY = 13511;
 
+    // A compressed wrapper of another journal entity, see JournalEntity.compress()
+    public static final short OP_COMPRESSED_JOURNAL = 13600;
+
     /**
      * NOTICE: OperationType cannot use a value exceeding 20000, and an error will be reported if it exceeds
      */
@@ -490,6 +490,15 @@ public class PlanFragment extends TreeNode<PlanFragment> {
         return result;
     }
 
+    /**
+     * Whether the output sink differs among the instances of this fragment: MultiCastDataStreamSink only
+     * keeps the destinations of each instance, and ExportSink adds the instance index to the file name prefix.
+     * The thrift fragment of such a fragment must not be shared among its instances.
+     */
+    public boolean hasInstanceSpecificSink() {
+        return sink != null && (this instanceof MultiCastPlanFragment || sink instanceof ExportSink);
+    }
+
     /**
      * Create thrift fragment with the unique fields, including
      * - output_sink (only for MultiCastDataStreamSink and ExportSink).
@@ -501,7 +510,7 @@ public class PlanFragment extends TreeNode<PlanFragment> {
         // Fill the required field.
         result.setPartition(dataPartition.toThrift());
 
-        if (sink != null && (this instanceof MultiCastPlanFragment || sink instanceof ExportSink)) {
+        if (hasInstanceSpecificSink()) {
             result.setOutput_sink(sink.toThrift());
         }
 
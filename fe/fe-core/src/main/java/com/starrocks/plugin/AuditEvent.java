@@ -118,6 +118,8 @@ public class AuditEvent {
     public double planCpuCosts = -1;
     @AuditField(value = "PlanMemCost")
     public double planMemCosts = -1;
+    @AuditField(value = "PlanDigest", ignore_zero = true)
+    public String planDigest = null;
     @AuditField(value = "PendingTimeMs")
     public long pendingTimeMs = -1;
     @AuditField(value = "BigQueryLogCPUSecondThreshold")
@@ -128,6 +130,8 @@ public class AuditEvent {
     public long bigQueryLogScanRowsThreshold = -1;
     @AuditField(value = "SpilledBytes", ignore_zero = true)
     public long spilledBytes = -1;
+    @AuditField(value = "ReturnBytes", ignore_zero = true)
+    public long returnBytes = -1;
 
     // Materialized View usage info
     @AuditField(value = "CandidateMVs", ignore_zero = true)
@@ -237,6 +241,11 @@ public class AuditEvent {
             return this;
         }
 
+        public AuditEventBuilder setReturnBytes(long returnBytes) {
+            auditEvent.returnBytes = returnBytes;
+            return this;
+        }
+
         public AuditEventBuilder setStmtId(long stmtId) {
             auditEvent.stmtId = stmtId;
             return this;
@@ -277,6 +286,11 @@ public class AuditEvent {
             return this;
         }
 
+        public AuditEventBuilder setPlanDigest(String planDigest) {
+            auditEvent.planDigest = planDigest;
+            return this;
+        }
+
         public AuditEventBuilder setPendingTimeMs(long pendingTimeMs) {
             auditEvent.pendingTimeMs = pendingTimeMs;
             return this;
@@ -131,6 +131,7 @@ public class ConnectContext {
     // state
     protected QueryState state;
     protected long returnRows;
+    protected long returnBytes;
 
     // error code
     protected String errorCode = "";
@@ -471,6 +472,7 @@ public class ConnectContext {
     public void setStartTime() {
         startTime = Instant.now();
         returnRows = 0;
+        returnBytes = 0;
     }
 
     public void updateReturnRows(int returnRows) {
@@ -483,6 +485,15 @@ public class ConnectContext {
 
     public void resetReturnRows() {
         returnRows = 0;
+        returnBytes = 0;
+    }
+
+    public void updateReturnBytes(long returnBytes) {
+        this.returnBytes += returnBytes;
+    }
+
+    public long getReturnBytes() {
+        return returnBytes;
     }
 
     public MysqlSerializer getSerializer() {
@@ -206,6 +206,7 @@ public class ConnectProcessor {
                 .setErrorCode(errorCode)
                 .setQueryTime(elapseMs)
                 .setReturnRows(ctx.getReturnRows())
+                .setReturnBytes(ctx.getReturnBytes())
                 .setStmtId(ctx.getStmtId())
                 .setIsForwardToLeader(isForwardToLeader)
                 .setQueryId(ctx.getQueryId() == null ? "NaN" : ctx.getQueryId().toString());
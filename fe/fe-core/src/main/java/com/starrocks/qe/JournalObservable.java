@@ -25,7 +25,7 @@ import org.apache.logging.log4j.Logger;
 
 public class JournalObservable {
     private static final Logger LOG = LogManager.getLogger(JournalObservable.class);
-    private Multiset<JournalObserver> obs;
+    private TreeMultiset<JournalObserver> obs;
 
     public JournalObservable() {
         obs = TreeMultiset.create();
@@ -81,6 +81,11 @@ public class JournalObservable {
         Object[] arrLocal;
         int size;
         synchronized (this) {
+            // called for every replayed journal, skip copying the observers if none of them can be woken up
+            Multiset.Entry<JournalObserver> first = obs.firstEntry();
+            if (first == null || first.getElement().getTargetJournalVersion() > journalId) {
+                return;
+            }
             size = obs.size();
             arrLocal = obs.toArray();
         }
@@ -22,6 +22,11 @@ import com.starrocks.sql.ast.SelectRelation;
 import com.starrocks.sql.ast.TableRelation;
 import com.starrocks.sql.plan.ExecPlan;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public class PrepareStmtContext {
     private final PrepareStmt stmt;
     private final ConnectContext connectContext;
@@ -29,6 +34,8 @@ public class PrepareStmtContext {
     private boolean isCached = false;
     private long lastSchemaUpdateTime = -1;
     private long tableId = -1;
+    // values of the session variables which change the shape of the cached plan
+    private List<Object> planVariables = null;
 
     public PrepareStmtContext(PrepareStmt stmt, ConnectContext connectContext, ExecPlan execPlan) {
         this.stmt = stmt;
@@ -63,6 +70,7 @@ public class PrepareStmtContext {
         OlapTable table = (OlapTable) queryAnalyzer.resolveTable(tableRelation);
         this.lastSchemaUpdateTime = table.lastSchemaUpdateTime.get();
         this.tableId = table.getId();
+        this.planVariables = getPlanVariables(session.getSessionVariable());
     }
 
     public void cachePlan(ExecPlan execPlan) {
@@ -83,13 +91,28 @@ public class PrepareStmtContext {
         if (tableId != this.tableId) {
             return true;
         }
+        if (!Objects.equals(getPlanVariables(session.getSessionVariable()), this.planVariables)) {
+            return true;
+        }
         return false;
     }
 
+    /**
+     * The cached plan is only reusable when the session variables used to build it are unchanged,
+     * otherwise a `set` between two executions would be silently ignored.
+     */
+    public static List<Object> getPlanVariables(SessionVariable sessionVariable) {
+        return Collections.unmodifiableList(Arrays.asList(sessionVariable.getSqlMode(),
+                sessionVariable.getTimeZone(),
+                sessionVariable.isEnableShortCircuit(),
+                sessionVariable.isSingleNodeExecPlan()));
+    }
+
     public void reset() {
         this.isCached = false;
         this.lastSchemaUpdateTime = -1;
         this.tableId = -1;
+        this.planVariables = null;
         this.execPlan = null;
     }
 }
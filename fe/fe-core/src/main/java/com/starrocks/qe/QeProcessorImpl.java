@@ -41,6 +41,7 @@ import com.starrocks.common.Config;
 import com.starrocks.common.UserException;
 import com.starrocks.common.util.DebugUtil;
 import com.starrocks.memory.MemoryTrackable;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.qe.scheduler.Coordinator;
 import com.starrocks.thrift.TBatchReportExecStatusParams;
 import com.starrocks.thrift.TBatchReportExecStatusResult;
@@ -56,7 +57,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.spark.util.SizeEstimator;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -180,6 +180,14 @@ public final class QeProcessorImpl implements QeProcessor, MemoryTrackable {
 
     @Override
     public TReportExecStatusResult reportExecStatus(TReportExecStatusParams params, TNetworkAddress beAddr) {
+        if (MetricRepo.hasInit) {
+            MetricRepo.COUNTER_REPORT_EXEC_STATUS.increase(1L);
+        }
+        return reportExecStatus(params, beAddr, coordinatorMap.get(params.query_id));
+    }
+
+    private TReportExecStatusResult reportExecStatus(TReportExecStatusParams params, TNetworkAddress beAddr,
+                                                     QueryInfo info) {
         if (LOG.isDebugEnabled() && params.isSetProfile()) {
             LOG.debug("ReportExecStatus(): fragment_instance_id={}, query_id={}, backend num: {}, ip: {}",
                     DebugUtil.printId(params.fragment_instance_id), DebugUtil.printId(params.query_id),
@@ -187,7 +195,6 @@ public final class QeProcessorImpl implements QeProcessor, MemoryTrackable {
             LOG.debug("params: {}", params);
         }
         final TReportExecStatusResult result = new TReportExecStatusResult();
-        final QueryInfo info = coordinatorMap.get(params.query_id);
         if (info == null) {
             LOG.info("ReportExecStatus() failed, query does not exist, fragment_instance_id={}, query_id={},",
                     DebugUtil.printId(params.fragment_instance_id), DebugUtil.printId(params.query_id));
@@ -249,39 +256,20 @@ public final class QeProcessorImpl implements QeProcessor, MemoryTrackable {
     public TBatchReportExecStatusResult batchReportExecStatus(TBatchReportExecStatusParams paramsList,
                                                               TNetworkAddress beAddr) {
         TBatchReportExecStatusResult resultList = new TBatchReportExecStatusResult();
-        Iterator<TReportExecStatusParams> iters = paramsList.getParams_listIterator();
-        while (iters.hasNext()) {
-            TReportExecStatusParams params = iters.next();
-            if (LOG.isDebugEnabled() && params.isSetProfile()) {
-                LOG.debug("ReportExecStatus(): fragment_instance_id={}, query_id={}, backend num: {}, ip: {}",
-                        DebugUtil.printId(params.fragment_instance_id), DebugUtil.printId(params.query_id),
-                        params.backend_num, beAddr);
-                LOG.debug("params: {}", params);
-            }
-            TReportExecStatusResult result = new TReportExecStatusResult();
-            final QueryInfo info = coordinatorMap.get(params.query_id);
-            if (info == null) {
-                LOG.info("ReportExecStatus() failed, query does not exist, fragment_instance_id={}, query_id={},",
-                        DebugUtil.printId(params.fragment_instance_id), DebugUtil.printId(params.query_id));
-                result.setStatus(new TStatus(TStatusCode.NOT_FOUND));
-                result.status.addToError_msgs("query id " + DebugUtil.printId(params.query_id) + " not found");
-                resultList.addToStatus_list(result.getStatus());
-                continue;
-            }
-            try {
-                info.getCoord().updateFragmentExecStatus(params);
-            } catch (Exception e) {
-                LOG.warn("ReportExecStatus() failed, fragment_instance_id={}, query_id={}, error: {}",
-                        DebugUtil.printId(params.fragment_instance_id), DebugUtil.printId(params.query_id),
-                        e.getMessage());
-                LOG.warn("stack:", e);
-                result.setStatus(new TStatus(TStatusCode.INTERNAL_ERROR));
-                result.status.addToError_msgs(e.getMessage());
-                resultList.addToStatus_list(result.getStatus());
-                continue;
+        if (MetricRepo.hasInit) {
+            MetricRepo.COUNTER_REPORT_EXEC_STATUS.increase((long) paramsList.getParams_listSize());
+            MetricRepo.COUNTER_BATCH_REPORT_EXEC_STATUS.increase(1L);
+        }
+        // The instances in one batch mostly belong to the same query, so only look up the coordinator
+        // again when the query id changes.
+        TUniqueId lastQueryId = null;
+        QueryInfo info = null;
+        for (TReportExecStatusParams params : paramsList.getParams_list()) {
+            if (!params.query_id.equals(lastQueryId)) {
+                lastQueryId = params.query_id;
+                info = coordinatorMap.get(lastQueryId);
             }
-            result.setStatus(new TStatus(TStatusCode.OK));
-            resultList.addToStatus_list(result.getStatus());
+            resultList.addToStatus_list(reportExecStatus(params, beAddr, info).getStatus());
         }
 
         return resultList;
@@ -1021,7 +1021,7 @@ public class StmtExecutor {
             }
         }
         boolean executeInFe = !isExplainAnalyze && !isSchedulerExplain && !isOutfileQuery
-                && canExecuteInFe(context, execPlan.getPhysicalPlan());
+                && canExecuteInFe(context, execPlan);
 
         if (isExplainAnalyze) {
             context.getSessionVariable().setEnableProfile(true);
@@ -1092,23 +1092,25 @@ public class StmtExecutor {
                         sendFields(colNames, outputExprs);
                         isSendFields = true;
                     }
+                    List<ByteBuffer> rows = batch.getBatch().getRows();
+                    long batchBytes = 0;
+                    for (ByteBuffer row : rows) {
+                        batchBytes += row.remaining();
+                    }
                     if (!isProxy && channel.isSendBufferNull()) {
-                        int bufferSize = 0;
-                        for (ByteBuffer row : batch.getBatch().getRows()) {
-                            bufferSize += (row.position() - row.limit());
-                        }
-                        // +8 for header size
-                        channel.initBuffer(bufferSize + 8);
+                        // +4 for each packet header
+                        channel.initBuffer((int) Math.min(batchBytes + 4L * rows.size(), Integer.MAX_VALUE));
                     }
 
-                    for (ByteBuffer row : batch.getBatch().getRows()) {
+                    for (ByteBuffer row : rows) {
                         if (isProxy) {
                             proxyResultBuffer.add(row);
                         } else {
                             channel.sendOnePacket(row);
                         }
                     }
-                    context.updateReturnRows(batch.getBatch().getRows().size());
+                    context.updateReturnRows(rows.size());
+                    context.updateReturnBytes(batchBytes);
                 }
             } while (!batch.isEos());
             if (!isSendFields && !isOutfileQuery && !isExplainAnalyze) {
@@ -2374,17 +2376,24 @@ public class StmtExecutor {
 
     // scenes can execute in FE should meet all these requirements:
     // 1. enable_constant_execute_in_fe = true
-    // 2. is mysql text protocol
+    // 2. is mysql protocol, binary protocol only supports the types FeExecuteCoordinator can encode
     // 3. all values are constantOperator
-    private boolean canExecuteInFe(ConnectContext context, OptExpression optExpression) {
+    private boolean canExecuteInFe(ConnectContext context, ExecPlan execPlan) {
         if (!context.getSessionVariable().isEnableConstantExecuteInFE()) {
             return false;
         }
 
-        if (context instanceof HttpConnectContext || context.getCommand() == MysqlCommand.COM_STMT_EXECUTE) {
+        if (context instanceof HttpConnectContext) {
             return false;
         }
 
+        if (context.getCommand() == MysqlCommand.COM_STMT_EXECUTE &&
+                !FeExecuteCoordinator.isSupportedBinaryRow(execPlan.getOutputExprs())) {
+            return false;
+        }
+
+        OptExpression optExpression = execPlan.getPhysicalPlan();
+
         if (optExpression.getOp() instanceof PhysicalValuesOperator) {
             PhysicalValuesOperator valuesOperator = (PhysicalValuesOperator) optExpression.getOp();
             boolean isAllConstants = true;
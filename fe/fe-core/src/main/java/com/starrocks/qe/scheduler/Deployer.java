@@ -21,6 +21,7 @@ import com.starrocks.common.Status;
 import com.starrocks.common.UserException;
 import com.starrocks.common.profile.Timer;
 import com.starrocks.common.profile.Tracers;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.qe.scheduler.dag.ExecutionDAG;
 import com.starrocks.qe.scheduler.dag.ExecutionFragment;
@@ -99,6 +100,7 @@ public class Deployer {
             return;
         }
 
+        long startTime = System.currentTimeMillis();
         if (enablePlanSerializeConcurrently) {
             try (Timer ignored = Tracers.watchScope(Tracers.Module.SCHEDULER, "DeploySerializeConcurrencyTime")) {
                 threeStageExecutionsToDeploy.stream().parallel().forEach(
@@ -115,6 +117,9 @@ public class Deployer {
                 waitForDeploymentCompletion(executions);
             }
         }
+        if (MetricRepo.hasInit) {
+            MetricRepo.HISTO_QUERY_DEPLOY_LATENCY.update(System.currentTimeMillis() - startTime);
+        }
     }
 
     public interface FailureHandler {
@@ -183,6 +188,9 @@ public class Deployer {
                 curDescTable = jobSpec.getDescTable();
             } else {
                 curDescTable = emptyDescTable;
+                if (MetricRepo.hasInit) {
+                    MetricRepo.COUNTER_QUERY_DEPLOY_DESC_TBL_SKIPPED.increase((long) stageInstances.size());
+                }
             }
 
             for (FragmentInstance instance : stageInstances) {
@@ -14,14 +14,17 @@
 
 package com.starrocks.qe.scheduler;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.starrocks.analysis.Expr;
 import com.starrocks.analysis.SlotRef;
+import com.starrocks.catalog.PrimitiveType;
 import com.starrocks.catalog.ScalarType;
 import com.starrocks.common.Status;
 import com.starrocks.common.util.DateUtils;
 import com.starrocks.common.util.RuntimeProfile;
 import com.starrocks.datacache.DataCacheSelectMetrics;
+import com.starrocks.mysql.MysqlCommand;
 import com.starrocks.mysql.MysqlSerializer;
 import com.starrocks.planner.ScanNode;
 import com.starrocks.proto.PPlanFragmentCancelReason;
@@ -54,19 +57,28 @@ import java.text.DecimalFormat;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public class FeExecuteCoordinator extends Coordinator {
 
+    private static final Set<PrimitiveType> BINARY_ROW_TYPES = ImmutableSet.of(
+            PrimitiveType.BOOLEAN, PrimitiveType.TINYINT, PrimitiveType.SMALLINT, PrimitiveType.INT,
+            PrimitiveType.BIGINT, PrimitiveType.LARGEINT, PrimitiveType.FLOAT, PrimitiveType.DOUBLE,
+            PrimitiveType.DECIMALV2, PrimitiveType.DECIMAL32, PrimitiveType.DECIMAL64, PrimitiveType.DECIMAL128,
+            PrimitiveType.CHAR, PrimitiveType.VARCHAR, PrimitiveType.DATE, PrimitiveType.DATETIME);
+
     private final ConnectContext connectContext;
 
     private final ExecPlan execPlan;
 
+    private final boolean isBinaryRow;
 
     public FeExecuteCoordinator(ConnectContext context, ExecPlan execPlan) {
         this.connectContext = context;
         this.execPlan = execPlan;
+        this.isBinaryRow = context.getCommand() == MysqlCommand.COM_STMT_EXECUTE;
     }
     @Override
     public void startScheduling(boolean needDeploy) throws Exception {
@@ -324,84 +336,169 @@ public class FeExecuteCoordinator extends Coordinator {
                 row = alignedOutput;
             }
 
-            for (ScalarOperator scalarOperator : row) {
-                ConstantOperator constantOperator = (ConstantOperator) scalarOperator;
-                if (constantOperator.isNull()) {
-                    serializer.writeNull();
-                } else if (constantOperator.isTrue()) {
-                    serializer.writeLenEncodedString("1");
-                } else if (constantOperator.isFalse()) {
-                    serializer.writeLenEncodedString("0");
-                } else if (constantOperator.getType().getPrimitiveType().isBinaryType()) {
-                    serializer.writeVInt(constantOperator.getBinary().length);
-                    serializer.writeBytes(constantOperator.getBinary());
-                } else {
-                    String value;
-                    switch (constantOperator.getType().getPrimitiveType()) {
-                        case TINYINT:
-                            value = String.valueOf(constantOperator.getTinyInt());
-                            break;
-                        case SMALLINT:
-                            value = String.valueOf(constantOperator.getSmallint());
-                            break;
-                        case INT:
-                            value = String.valueOf(constantOperator.getInt());
-                            break;
-                        case BIGINT:
-                            value = String.valueOf(constantOperator.getBigint());
-                            break;
-                        case LARGEINT:
-                            value = String.valueOf(constantOperator.getLargeInt());
-                            break;
-                        case FLOAT:
-                            value = RyuFloat.floatToString((float) constantOperator.getFloat());
-                            break;
-                        case DOUBLE:
-                            value = RyuDouble.doubleToString(constantOperator.getDouble());
-                            break;
-                        case DECIMALV2:
-                            value = constantOperator.getDecimal().toPlainString();
-                            break;
-                        case DECIMAL32:
-                        case DECIMAL64:
-                        case DECIMAL128:
-                            int scale = ((ScalarType) constantOperator.getType()).getScalarScale();
-                            BigDecimal val1 = constantOperator.getDecimal();
-                            DecimalFormat df = new DecimalFormat((scale == 0 ? "0" : "0.") + StringUtils.repeat("0", scale));
-                            value = df.format(val1);
-                            break;
-                        case CHAR:
-                            value = constantOperator.getChar();
-                            break;
-                        case VARCHAR:
-                            value = constantOperator.getVarchar();
-                            break;
-                        case TIME:
-                            value = convertToTimeString(constantOperator.getTime());
-                            break;
-                        case DATE:
-                            LocalDateTime date = constantOperator.getDate();
-                            value = date.format(DateUtils.DATE_FORMATTER_UNIX);
-                            break;
-                        case DATETIME:
-                            LocalDateTime datetime = constantOperator.getDate();
-                            if (datetime.getNano() != 0) {
-                                value = datetime.format(DateUtils.DATE_TIME_MS_FORMATTER_UNIX);
-                            } else {
-                                value = datetime.format(DateUtils.DATE_TIME_FORMATTER_UNIX);
-                            }
-                            break;
-                        default:
-                            value = constantOperator.toString();
-                    }
-                    serializer.writeLenEncodedString(value);
-                }
+            if (isBinaryRow) {
+                writeBinaryRow(serializer, row);
+            } else {
+                writeTextRow(serializer, row);
             }
             res.add(serializer.toByteBuffer());
         }
         return res;
     }
 
+    private void writeTextRow(MysqlSerializer serializer, List<ScalarOperator> row) {
+        for (ScalarOperator scalarOperator : row) {
+            ConstantOperator constantOperator = (ConstantOperator) scalarOperator;
+            if (constantOperator.isNull()) {
+                serializer.writeNull();
+            } else if (constantOperator.isTrue()) {
+                serializer.writeLenEncodedString("1");
+            } else if (constantOperator.isFalse()) {
+                serializer.writeLenEncodedString("0");
+            } else if (constantOperator.getType().getPrimitiveType().isBinaryType()) {
+                serializer.writeVInt(constantOperator.getBinary().length);
+                serializer.writeBytes(constantOperator.getBinary());
+            } else {
+                serializer.writeLenEncodedString(toTextValue(constantOperator));
+            }
+        }
+    }
+
+    // Protocol::BinaryResultsetRow, keep it consistent with MysqlRowBuffer in BE.
+    // Fixed length types are written as little-endian bytes, so no string is built for them.
+    private void writeBinaryRow(MysqlSerializer serializer, List<ScalarOperator> row) {
+        byte[] nullBitmap = new byte[(row.size() + 9) / 8];
+        for (int i = 0; i < row.size(); i++) {
+            if (((ConstantOperator) row.get(i)).isNull()) {
+                nullBitmap[(i + 2) / 8] |= (byte) (1 << ((i + 2) & 7));
+            }
+        }
+        serializer.writeInt1(0x00);
+        serializer.writeBytes(nullBitmap);
+
+        for (ScalarOperator scalarOperator : row) {
+            ConstantOperator constantOperator = (ConstantOperator) scalarOperator;
+            if (constantOperator.isNull()) {
+                continue;
+            }
+            switch (constantOperator.getType().getPrimitiveType()) {
+                case BOOLEAN:
+                    serializer.writeInt1(constantOperator.getBoolean() ? 1 : 0);
+                    break;
+                case TINYINT:
+                    serializer.writeInt1(constantOperator.getTinyInt());
+                    break;
+                case SMALLINT:
+                    serializer.writeInt2(constantOperator.getSmallint());
+                    break;
+                case INT:
+                    serializer.writeInt4(constantOperator.getInt());
+                    break;
+                case BIGINT:
+                    serializer.writeInt8(constantOperator.getBigint());
+                    break;
+                case FLOAT:
+                    serializer.writeInt4(Float.floatToIntBits((float) constantOperator.getFloat()));
+                    break;
+                case DOUBLE:
+                    serializer.writeInt8(Double.doubleToLongBits(constantOperator.getDouble()));
+                    break;
+                case DATE: {
+                    LocalDateTime date = constantOperator.getDate();
+                    serializer.writeInt1(4);
+                    serializer.writeInt2(date.getYear());
+                    serializer.writeInt1(date.getMonthValue());
+                    serializer.writeInt1(date.getDayOfMonth());
+                    break;
+                }
+                case DATETIME: {
+                    LocalDateTime datetime = constantOperator.getDate();
+                    int micros = datetime.getNano() / 1000;
+                    serializer.writeInt1(micros == 0 ? 7 : 11);
+                    serializer.writeInt2(datetime.getYear());
+                    serializer.writeInt1(datetime.getMonthValue());
+                    serializer.writeInt1(datetime.getDayOfMonth());
+                    serializer.writeInt1(datetime.getHour());
+                    serializer.writeInt1(datetime.getMinute());
+                    serializer.writeInt1(datetime.getSecond());
+                    if (micros != 0) {
+                        serializer.writeInt4(micros);
+                    }
+                    break;
+                }
+                default:
+                    // LARGEINT, DECIMAL and string types are length encoded strings in binary protocol too
+                    serializer.writeLenEncodedString(toTextValue(constantOperator));
+            }
+        }
+    }
+
+    public static boolean isSupportedBinaryRow(List<Expr> outputExprs) {
+        return outputExprs.stream().allMatch(expr -> BINARY_ROW_TYPES.contains(expr.getType().getPrimitiveType()));
+    }
+
+    private String toTextValue(ConstantOperator constantOperator) {
+        String value;
+        switch (constantOperator.getType().getPrimitiveType()) {
+            case TINYINT:
+                value = String.valueOf(constantOperator.getTinyInt());
+                break;
+            case SMALLINT:
+                value = String.valueOf(constantOperator.getSmallint());
+                break;
+            case INT:
+                value = String.valueOf(constantOperator.getInt());
+                break;
+            case BIGINT:
+                value = String.valueOf(constantOperator.getBigint());
+                break;
+            case LARGEINT:
+                value = String.valueOf(constantOperator.getLargeInt());
+                break;
+            case FLOAT:
+                value = RyuFloat.floatToString((float) constantOperator.getFloat());
+                break;
+            case DOUBLE:
+                value = RyuDouble.doubleToString(constantOperator.getDouble());
+                break;
+            case DECIMALV2:
+                value = constantOperator.getDecimal().toPlainString();
+                break;
+            case DECIMAL32:
+            case DECIMAL64:
+            case DECIMAL128:
+                int scale = ((ScalarType) constantOperator.getType()).getScalarScale();
+                BigDecimal val1 = constantOperator.getDecimal();
+                DecimalFormat df = new DecimalFormat((scale == 0 ? "0" : "0.") + StringUtils.repeat("0", scale));
+                value = df.format(val1);
+                break;
+            case CHAR:
+                value = constantOperator.getChar();
+                break;
+            case VARCHAR:
+                value = constantOperator.getVarchar();
+                break;
+            case TIME:
+                value = convertToTimeString(constantOperator.getTime());
+                break;
+            case DATE:
+                LocalDateTime date = constantOperator.getDate();
+                value = date.format(DateUtils.DATE_FORMATTER_UNIX);
+                break;
+            case DATETIME:
+                LocalDateTime datetime = constantOperator.getDate();
+                if (datetime.getNano() != 0) {
+                    value = datetime.format(DateUtils.DATE_TIME_MS_FORMATTER_UNIX);
+                } else {
+                    value = datetime.format(DateUtils.DATE_TIME_FORMATTER_UNIX);
+                }
+                break;
+            default:
+                value = constantOperator.toString();
+        }
+        return value;
+    }
+
     private String convertToTimeString(double time) {
         StringBuilder sb = new StringBuilder();
         if (time < 0) {
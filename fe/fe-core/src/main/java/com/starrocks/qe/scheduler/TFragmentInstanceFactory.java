@@ -16,9 +16,12 @@ package com.starrocks.qe.scheduler;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.planner.ExportSink;
 import com.starrocks.planner.MultiCastPlanFragment;
 import com.starrocks.planner.PlanFragment;
+import com.starrocks.planner.PlanFragmentId;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.qe.SessionVariable;
 import com.starrocks.qe.scheduler.dag.ExecutionDAG;
@@ -31,6 +34,7 @@ import com.starrocks.thrift.TDescriptorTable;
 import com.starrocks.thrift.TExecPlanFragmentParams;
 import com.starrocks.thrift.TFunctionVersion;
 import com.starrocks.thrift.TNetworkAddress;
+import com.starrocks.thrift.TPlanFragment;
 import com.starrocks.thrift.TPlanFragmentDestination;
 import com.starrocks.thrift.TPlanFragmentExecParams;
 import com.starrocks.thrift.TPredicateTreeParams;
@@ -40,12 +44,16 @@ import com.starrocks.thrift.TQueryQueueOptions;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class TFragmentInstanceFactory {
     private final ConnectContext context;
     private final JobSpec jobSpec;
     private final ExecutionDAG executionDAG;
     private final TNetworkAddress coordAddress;
+    // The thrift plan of a fragment is the same for all its instances, so build it once per fragment
+    // instead of walking the plan tree again for every instance.
+    private final Map<PlanFragmentId, TPlanFragment> fragmentThrifts = Maps.newHashMap();
 
     public TFragmentInstanceFactory(ConnectContext context,
                                     JobSpec jobSpec,
@@ -103,7 +111,7 @@ public class TFragmentInstanceFactory {
         boolean isEnablePipelineTableSinkDop = isEnablePipeline && fragment.hasTableSink();
 
         result.setProtocol_version(InternalServiceVersion.V1);
-        result.setFragment(fragment.toThrift());
+        result.setFragment(getFragmentThrift(fragment));
         result.setDesc_tbl(descTable);
         result.setFunc_version(TFunctionVersion.RUNTIME_FILTER_SERIALIZE_VERSION_2.getValue());
         result.setCoord(coordAddress);
@@ -168,6 +176,23 @@ public class TFragmentInstanceFactory {
         }
     }
 
+    private TPlanFragment getFragmentThrift(PlanFragment fragment) {
+        // toThriftForUniqueParams modifies the output sink per instance, so each instance needs its own copy.
+        if (fragment.hasInstanceSpecificSink()) {
+            return fragment.toThrift();
+        }
+        TPlanFragment tFragment = fragmentThrifts.get(fragment.getFragmentId());
+        if (tFragment != null) {
+            if (MetricRepo.hasInit) {
+                MetricRepo.COUNTER_QUERY_DEPLOY_FRAGMENT_REUSED.increase(1L);
+            }
+            return tFragment;
+        }
+        tFragment = fragment.toThrift();
+        fragmentThrifts.put(fragment.getFragmentId(), tFragment);
+        return tFragment;
+    }
+
     private void toThriftForUniqueParams(TExecPlanFragmentParams result,
                                          FragmentInstance instance,
                                          int accTabletSinkDop) {
@@ -183,6 +208,8 @@ public class TFragmentInstanceFactory {
             result.setGroup_execution_scan_dop(instance.getGroupExecutionScanDop());
         }
 
+        // The output sink may only be modified here for fragments whose PlanFragment::hasInstanceSpecificSink
+        // returns true, since the thrift fragment is shared among the instances of other fragments.
         // Add instance number in file name prefix when export job.
         if (fragment.getSink() instanceof ExportSink) {
             ExportSink exportSink = (ExportSink) fragment.getSink();
@@ -40,6 +40,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.io.CountingOutputStream;
 import com.starrocks.alter.AlterJobMgr;
 import com.starrocks.alter.CompactionHandler;
 import com.starrocks.alter.MaterializedViewHandler;
@@ -167,6 +168,7 @@ import com.starrocks.persist.metablock.SRMetaBlockException;
 import com.starrocks.persist.metablock.SRMetaBlockID;
 import com.starrocks.persist.metablock.SRMetaBlockLoader;
 import com.starrocks.persist.metablock.SRMetaBlockReader;
+import com.starrocks.persist.metablock.SRMetaBlockSaver;
 import com.starrocks.plugin.PluginMgr;
 import com.starrocks.privilege.AccessControlProvider;
 import com.starrocks.privilege.AuthorizationMgr;
@@ -229,6 +231,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
@@ -259,6 +262,8 @@ public class GlobalStateMgr {
     // will break the loop and refresh in-memory data after at most 10w logs or at most 1 seconds
     private static final long REPLAYER_MAX_MS_PER_LOOP = 1000L;
     private static final long REPLAYER_MAX_LOGS_PER_LOOP = 100000L;
+    // image is written and read as millions of small json strings, do the file io in big chunks
+    private static final int IMAGE_IO_BUFFER_SIZE = 4 * 1024 * 1024;
 
     /**
      * Meta and Image context
@@ -1460,7 +1465,8 @@ public class GlobalStateMgr {
                 .build();
 
         Set<SRMetaBlockID> metaMgrMustExists = new HashSet<>(loadImages.keySet());
-        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(curFile.toPath())))) {
+        try (DataInputStream dis = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(curFile.toPath()), IMAGE_IO_BUFFER_SIZE))) {
             loadHeader(dis);
             while (true) {
                 SRMetaBlockReader reader = new SRMetaBlockReader(dis);
@@ -1591,47 +1597,67 @@ public class GlobalStateMgr {
         // save image does not need any lock. because only checkpoint thread will call this method.
         LOG.info("start save image to {}. is ckpt: {}", curFile.getAbsolutePath(), GlobalStateMgr.isCheckpointThread());
 
+        Map<SRMetaBlockID, SRMetaBlockSaver> saveImages = ImmutableMap.<SRMetaBlockID, SRMetaBlockSaver>builder()
+                .put(SRMetaBlockID.NODE_MGR, nodeMgr::save)
+                .put(SRMetaBlockID.LOCAL_META_STORE, localMetastore::save)
+                .put(SRMetaBlockID.ALTER_MGR, alterJobMgr::save)
+                .put(SRMetaBlockID.CATALOG_RECYCLE_BIN, recycleBin::save)
+                .put(SRMetaBlockID.VARIABLE_MGR, VariableMgr::save)
+                .put(SRMetaBlockID.RESOURCE_MGR, resourceMgr::saveResourcesV2)
+                .put(SRMetaBlockID.EXPORT_MGR, exportMgr::saveExportJobV2)
+                .put(SRMetaBlockID.BACKUP_MGR, backupHandler::saveBackupHandlerV2)
+                .put(SRMetaBlockID.GLOBAL_TRANSACTION_MGR, globalTransactionMgr::saveTransactionStateV2)
+                .put(SRMetaBlockID.COLOCATE_TABLE_INDEX, colocateTableIndex::saveColocateTableIndexV2)
+                .put(SRMetaBlockID.ROUTINE_LOAD_MGR, routineLoadMgr::saveRoutineLoadJobsV2)
+                .put(SRMetaBlockID.LOAD_MGR, loadMgr::saveLoadJobsV2JsonFormat)
+                .put(SRMetaBlockID.SMALL_FILE_MGR, smallFileMgr::saveSmallFilesV2)
+                .put(SRMetaBlockID.PLUGIN_MGR, pluginMgr::save)
+                .put(SRMetaBlockID.DELETE_MGR, deleteMgr::save)
+                .put(SRMetaBlockID.ANALYZE_MGR, analyzeMgr::save)
+                .put(SRMetaBlockID.RESOURCE_GROUP_MGR, resourceGroupMgr::save)
+                .put(SRMetaBlockID.AUTHENTICATION_MGR, authenticationMgr::saveV2)
+                .put(SRMetaBlockID.AUTHORIZATION_MGR, authorizationMgr::saveV2)
+                .put(SRMetaBlockID.TASK_MGR, taskManager::saveTasksV2)
+                .put(SRMetaBlockID.CATALOG_MGR, catalogMgr::save)
+                .put(SRMetaBlockID.INSERT_OVERWRITE_JOB_MGR, insertOverwriteJobMgr::save)
+                .put(SRMetaBlockID.COMPACTION_MGR, compactionMgr::save)
+                .put(SRMetaBlockID.STREAM_LOAD_MGR, streamLoadMgr::save)
+                .put(SRMetaBlockID.MATERIALIZED_VIEW_MGR, MaterializedViewMgr.getInstance()::save)
+                .put(SRMetaBlockID.GLOBAL_FUNCTION_MGR, globalFunctionMgr::save)
+                .put(SRMetaBlockID.STORAGE_VOLUME_MGR, storageVolumeMgr::save)
+                .put(SRMetaBlockID.DICTIONARY_MGR, dictionaryMgr::save)
+                .put(SRMetaBlockID.REPLICATION_MGR, replicationMgr::save)
+                .build();
+
         long saveImageStartTime = System.currentTimeMillis();
-        try (DataOutputStream dos = new DataOutputStream(Files.newOutputStream(curFile.toPath()))) {
+        CountingOutputStream cos = new CountingOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(curFile.toPath()), IMAGE_IO_BUFFER_SIZE));
+        try (DataOutputStream dos = new DataOutputStream(cos)) {
+            // record the size and time of every meta block, so that we know which module dominates
+            // the image and the checkpoint cost
+            StringBuilder blockStats = new StringBuilder();
             try {
                 saveHeader(dos);
-                nodeMgr.save(dos);
-                localMetastore.save(dos);
-                alterJobMgr.save(dos);
-                recycleBin.save(dos);
-                VariableMgr.save(dos);
-                resourceMgr.saveResourcesV2(dos);
-                exportMgr.saveExportJobV2(dos);
-                backupHandler.saveBackupHandlerV2(dos);
-                globalTransactionMgr.saveTransactionStateV2(dos);
-                colocateTableIndex.saveColocateTableIndexV2(dos);
-                routineLoadMgr.saveRoutineLoadJobsV2(dos);
-                loadMgr.saveLoadJobsV2JsonFormat(dos);
-                smallFileMgr.saveSmallFilesV2(dos);
-                pluginMgr.save(dos);
-                deleteMgr.save(dos);
-                analyzeMgr.save(dos);
-                resourceGroupMgr.save(dos);
-                authenticationMgr.saveV2(dos);
-                authorizationMgr.saveV2(dos);
-                taskManager.saveTasksV2(dos);
-                catalogMgr.save(dos);
-                insertOverwriteJobMgr.save(dos);
-                compactionMgr.save(dos);
-                streamLoadMgr.save(dos);
-                MaterializedViewMgr.getInstance().save(dos);
-                globalFunctionMgr.save(dos);
-                storageVolumeMgr.save(dos);
-                dictionaryMgr.save(dos);
-                replicationMgr.save(dos);
+                for (Map.Entry<SRMetaBlockID, SRMetaBlockSaver> entry : saveImages.entrySet()) {
+                    long blockStartBytes = cos.getCount();
+                    long blockStartTime = System.currentTimeMillis();
+                    entry.getValue().apply(dos);
+                    blockStats.append(entry.getKey()).append(": ")
+                            .append(cos.getCount() - blockStartBytes).append(" bytes/")
+                            .append(System.currentTimeMillis() - blockStartTime).append(" ms, ");
+                }
             } catch (SRMetaBlockException e) {
                 LOG.error("Save meta block failed ", e);
                 throw new IOException("Save meta block failed ", e);
             }
 
+            long imageBytes = cos.getCount();
+            if (MetricRepo.hasInit) {
+                MetricRepo.COUNTER_IMAGE_WRITE_BYTES.increase(imageBytes);
+            }
             long saveImageEndTime = System.currentTimeMillis();
-            LOG.info("Finished save meta block {} in {} ms.",
-                    curFile.getAbsolutePath(), (saveImageEndTime - saveImageStartTime));
+            LOG.info("Finished save meta block {} in {} ms, total {} bytes. {}",
+                    curFile.getAbsolutePath(), (saveImageEndTime - saveImageStartTime), imageBytes, blockStats);
         }
     }
 
@@ -2102,6 +2128,10 @@ public class GlobalStateMgr {
         this.synchronizedTimeMs = time;
     }
 
+    public long getSynchronizedTimeMs() {
+        return synchronizedTimeMs;
+    }
+
     public void setEditLog(EditLog editLog) {
         this.editLog = editLog;
     }
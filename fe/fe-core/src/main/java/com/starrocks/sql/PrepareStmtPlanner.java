@@ -15,6 +15,7 @@
 package com.starrocks.sql;
 
 import com.starrocks.http.HttpConnectContext;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.qe.PrepareStmtContext;
 import com.starrocks.sql.ast.ExecuteStmt;
@@ -55,6 +56,9 @@ public class PrepareStmtPlanner {
             if (prepareStmtContext.needReAnalyze(queryStmt, session)) {
                 return planAndCacheExecPlan(stmt, session, prepareStmtContext);
             } else {
+                if (MetricRepo.hasInit) {
+                    MetricRepo.COUNTER_PLAN_CACHE_HIT.increase(1L);
+                }
                 ExecPlan execPlan = prepareStmtContext.getExecPlan();
 
                 // use cache and rebuild physical plan
@@ -81,6 +85,9 @@ public class PrepareStmtPlanner {
 
     private static ExecPlan planAndCacheExecPlan(StatementBase stmt, ConnectContext session,
                                                  PrepareStmtContext prepareStmtContext) {
+        if (MetricRepo.hasInit) {
+            MetricRepo.COUNTER_PLAN_CACHE_MISS.increase(1L);
+        }
         ExecPlan execPlan = StatementPlanner.plan(stmt, session);
         if (execPlan == null) {
             return null;
@@ -33,6 +33,7 @@ import com.starrocks.common.LabelAlreadyUsedException;
 import com.starrocks.common.profile.Timer;
 import com.starrocks.common.profile.Tracers;
 import com.starrocks.http.HttpConnectContext;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.planner.PlanFragment;
 import com.starrocks.planner.ResultSink;
 import com.starrocks.qe.ConnectContext;
@@ -127,8 +128,20 @@ public class StatementPlanner {
                 if (needWholePhaseLock) {
                     plan = createQueryPlan(queryStmt, session, resultSinkType);
                 } else {
-                    unLock(plannerMetaLocker);
-                    plan = createQueryPlanWithReTry(queryStmt, session, resultSinkType, plannerMetaLocker);
+                    // TODO: double check relatedMvs for OlapTable
+                    // only collect once to save the original olapTable info. Copy them while the analyze
+                    // lock is still held, instead of locking the same dbs again.
+                    Set<OlapTable> olapTables = Sets.newHashSet();
+                    try {
+                        AnalyzerUtils.copyOlapTable(queryStmt, olapTables);
+                    } finally {
+                        unLock(plannerMetaLocker);
+                    }
+                    if (MetricRepo.hasInit) {
+                        MetricRepo.COUNTER_QUERY_PLAN_LOCK_FREE.increase(1L);
+                    }
+                    plan = createQueryPlanWithReTry(queryStmt, session, resultSinkType, plannerMetaLocker,
+                            olapTables);
                 }
                 setOutfileSink(queryStmt, plan);
                 return plan;
@@ -238,7 +251,8 @@ public class StatementPlanner {
     public static ExecPlan createQueryPlanWithReTry(QueryStatement queryStmt,
                                                     ConnectContext session,
                                                     TResultSinkType resultSinkType,
-                                                    PlannerMetaLocker plannerMetaLocker) {
+                                                    PlannerMetaLocker plannerMetaLocker,
+                                                    Set<OlapTable> olapTables) {
         QueryRelation query = queryStmt.getQueryRelation();
         List<String> colNames = query.getColumnOutputNames();
 
@@ -246,9 +260,6 @@ public class StatementPlanner {
         ColumnRefFactory columnRefFactory = new ColumnRefFactory();
         boolean isSchemaValid = true;
 
-        // TODO: double check relatedMvs for OlapTable
-        // only collect once to save the original olapTable info
-        Set<OlapTable> olapTables = collectOriginalOlapTables(session, queryStmt);
         for (int i = 0; i < Config.max_query_retry_time; ++i) {
             long planStartTime = OptimisticVersion.generate();
             if (!isSchemaValid) {
@@ -309,6 +320,9 @@ public class StatementPlanner {
                     plan.setColumnRefFactory(columnRefFactory);
                     return plan;
                 }
+                if (MetricRepo.hasInit) {
+                    MetricRepo.COUNTER_QUERY_PLAN_OPTIMISTIC_RETRY.increase(1L);
+                }
 
                 // if exists table is applying visible log, we wait 10 ms to retry
                 if (olapTables.stream().anyMatch(t -> t.lastVersionUpdateStartTime.get() > t.lastVersionUpdateEndTime.get())) {
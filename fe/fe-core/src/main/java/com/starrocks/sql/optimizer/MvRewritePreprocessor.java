@@ -25,16 +25,22 @@ import com.google.common.collect.Sets;
 import com.starrocks.catalog.BaseTableInfo;
 import com.starrocks.catalog.Column;
 import com.starrocks.catalog.Database;
+import com.starrocks.catalog.DeltaLakeTable;
 import com.starrocks.catalog.DistributionInfo;
 import com.starrocks.catalog.DistributionInfo.DistributionInfoType;
 import com.starrocks.catalog.ExpressionRangePartitionInfo;
 import com.starrocks.catalog.HashDistributionInfo;
+import com.starrocks.catalog.HiveMetaStoreTable;
+import com.starrocks.catalog.IcebergTable;
+import com.starrocks.catalog.JDBCTable;
+import com.starrocks.catalog.KuduTable;
 import com.starrocks.catalog.MaterializedIndex;
 import com.starrocks.catalog.MaterializedIndexMeta;
 import com.starrocks.catalog.MaterializedView;
 import com.starrocks.catalog.MvPlanContext;
 import com.starrocks.catalog.MvUpdateInfo;
 import com.starrocks.catalog.OlapTable;
+import com.starrocks.catalog.PaimonTable;
 import com.starrocks.catalog.Partition;
 import com.starrocks.catalog.PartitionInfo;
 import com.starrocks.catalog.PhysicalPartition;
@@ -490,11 +496,16 @@ public class MvRewritePreprocessor {
 
     private static boolean canMVRewriteIfMVHasExtraTables(ConnectContext connectContext,
                                                           MaterializedView mv,
-                                                          Set<Table> queryTables) {
+                                                          Set<Table> queryTables,
+                                                          QueryTableKeys queryTableKeys) {
         // 1. when mv has foreign key constraints, it's ok whether query has extra tables or mv has extra tables.
         if (mv.hasForeignKeyConstraints()) {
             return true;
         }
+        // fast path: all base tables of the mv are scanned by the query, no need to resolve them from catalogs
+        if (queryTableKeys.containsAll(mv.getBaseTableInfos())) {
+            return true;
+        }
         Set<Table> baseTables = mv.getBaseTableInfos().stream().map(x -> MvUtils.getTableChecked(x))
                 .filter(x -> !x.isView() && !x.isMaterializedView())
                 .collect(Collectors.toSet());
@@ -513,6 +524,63 @@ public class MvRewritePreprocessor {
         return true;
     }
 
+    /**
+     * Keys of the tables scanned by the query, built once per query and shared by all candidate mvs:
+     * native tables are keyed by table id, external tables by catalog name, db name and table identifier.
+     */
+    static class QueryTableKeys {
+        private final Set<Long> tableIds = Sets.newHashSet();
+        private final Set<List<String>> externalTableKeys = Sets.newHashSet();
+
+        QueryTableKeys(Set<Table> queryTables) {
+            if (queryTables == null) {
+                return;
+            }
+            for (Table table : queryTables) {
+                if (table.isNativeTableOrMaterializedView()) {
+                    tableIds.add(table.getId());
+                } else {
+                    String dbName = getExternalDbName(table);
+                    // tables without a known db name are left out, the mv then falls back to the catalog lookup
+                    if (dbName != null) {
+                        externalTableKeys.add(Arrays.asList(table.getCatalogName(), dbName,
+                                table.getTableIdentifier()));
+                    }
+                }
+            }
+        }
+
+        boolean containsAll(List<BaseTableInfo> baseTableInfos) {
+            for (BaseTableInfo baseTableInfo : baseTableInfos) {
+                boolean isMatched = baseTableInfo.isInternalCatalog() ?
+                        tableIds.contains(baseTableInfo.getTableId()) :
+                        externalTableKeys.contains(Arrays.asList(baseTableInfo.getCatalogName(),
+                                baseTableInfo.getDbName(), baseTableInfo.getTableIdentifier()));
+                if (!isMatched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String getExternalDbName(Table table) {
+            if (table instanceof HiveMetaStoreTable) {
+                return ((HiveMetaStoreTable) table).getDbName();
+            } else if (table instanceof IcebergTable) {
+                return ((IcebergTable) table).getRemoteDbName();
+            } else if (table instanceof PaimonTable) {
+                return ((PaimonTable) table).getDbName();
+            } else if (table instanceof DeltaLakeTable) {
+                return ((DeltaLakeTable) table).getDbName();
+            } else if (table instanceof JDBCTable) {
+                return ((JDBCTable) table).getDbName();
+            } else if (table instanceof KuduTable) {
+                return ((KuduTable) table).getDbName();
+            }
+            return null;
+        }
+    }
+
     /**
      * Check if the MV is eligible for query rewrite
      *
@@ -522,6 +590,14 @@ public class MvRewritePreprocessor {
                                                                 MaterializedView mv,
                                                                 boolean force,
                                                                 Set<Table> queryTables) {
+        return isMVValidToRewriteQuery(connectContext, mv, force, queryTables, new QueryTableKeys(queryTables));
+    }
+
+    private static Pair<Boolean, String> isMVValidToRewriteQuery(ConnectContext connectContext,
+                                                                 MaterializedView mv,
+                                                                 boolean force,
+                                                                 Set<Table> queryTables,
+                                                                 QueryTableKeys queryTableKeys) {
         if (!mv.isActive())  {
             OptimizerTraceUtil.logMVRewriteFailReason(mv.getName(), "is not active");
             return Pair.create(false, "MV is not active");
@@ -534,7 +610,7 @@ public class MvRewritePreprocessor {
         }
         // if mv is a subset of query tables, it can be used for rewrite.
         if (CollectionUtils.isNotEmpty(queryTables) &&
-                !canMVRewriteIfMVHasExtraTables(connectContext, mv, queryTables)) {
+                !canMVRewriteIfMVHasExtraTables(connectContext, mv, queryTables, queryTableKeys)) {
             OptimizerTraceUtil.logMVRewriteFailReason(mv.getName(), "MV contains extra tables besides FK-PK");
             return Pair.create(false, "MV contains extra tables besides FK-PK");
         }
@@ -595,12 +671,16 @@ public class MvRewritePreprocessor {
         logMVPrepare(connectContext, "Choose {}/{} mvs after user config", validMVs.size(), relatedMVs.size());
 
         // 2. choose all valid mvs and filter mvs that cannot be rewritten for the query
+        QueryTableKeys queryTableKeys = new QueryTableKeys(queryTables);
         validMVs = validMVs.stream()
-                .filter(mv -> isMVValidToRewriteQuery(connectContext, mv, false, queryTables).first)
+                .filter(mv -> isMVValidToRewriteQuery(connectContext, mv, false, queryTables, queryTableKeys).first)
                 .collect(Collectors.toSet());
         logMVPrepare(connectContext, "Choose {}/{} valid mvs after checking valid",
                 validMVs.size(), relatedMVs.size());
 
+        Tracers.count(Tracers.Module.MV, "MVRelatedCandidates", relatedMVs.size());
+        Tracers.count(Tracers.Module.MV, "MVPrunedCandidates", relatedMVs.size() - validMVs.size());
+
         // 3. choose max config related mvs for mv rewrite to avoid too much optimize time
         int maxRelatedMVsLimit = connectContext.getSessionVariable().getCboMaterializedViewRewriteRelatedMVsLimit();
         if (validMVs.size() <= maxRelatedMVsLimit) {
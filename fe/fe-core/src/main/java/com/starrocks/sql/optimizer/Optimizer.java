@@ -269,7 +269,8 @@ public class Optimizer {
         // we need set plan costs before physical rewrite stage.
         final CostEstimate costs = Explain.buildCost(result);
         connectContext.getAuditEventBuilder().setPlanCpuCosts(costs.getCpuCost())
-                .setPlanMemCosts(costs.getMemoryCost());
+                .setPlanMemCosts(costs.getMemoryCost())
+                .setPlanDigest(PlanDigestBuilder.build(result));
         OptExpression finalPlan;
         try (Timer ignored = Tracers.watchScope("PhysicalRewrite")) {
             finalPlan = physicalRuleRewrite(rootTaskContext, result);
@@ -19,6 +19,7 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.starrocks.catalog.OlapTable;
+import com.starrocks.common.Pair;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.qe.SessionVariable;
 import com.starrocks.qe.VariableMgr;
@@ -82,6 +83,9 @@ public class OptimizerContext {
     // collect all LogicalOlapScanOperators in the query before any optimization
     private List<LogicalOlapScanOperator> allLogicalOlapScanOperators;
 
+    // olap table row count keyed by (table id, selected partition ids), it's stable during one optimization
+    private final Map<Pair<Long, List<Long>>, Long> tableRowCountCache = Maps.newHashMap();
+
     @VisibleForTesting
     public OptimizerContext(Memo memo, ColumnRefFactory columnRefFactory) {
         this.memo = memo;
@@ -312,4 +316,8 @@ public class OptimizerContext {
     public List<LogicalOlapScanOperator> getAllLogicalOlapScanOperators() {
         return allLogicalOlapScanOperators;
     }
+
+    public Map<Pair<Long, List<Long>>, Long> getTableRowCountCache() {
+        return tableRowCountCache;
+    }
 }
@@ -0,0 +1,83 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.optimizer;
+
+import com.starrocks.catalog.Table;
+import com.starrocks.sql.optimizer.operator.Operator;
+import com.starrocks.sql.optimizer.operator.physical.PhysicalDistributionOperator;
+import com.starrocks.sql.optimizer.operator.physical.PhysicalHashAggregateOperator;
+import com.starrocks.sql.optimizer.operator.physical.PhysicalJoinOperator;
+import com.starrocks.sql.optimizer.operator.physical.PhysicalScanOperator;
+import org.apache.commons.codec.binary.Hex;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Build a fingerprint of the shape of a physical plan: operator types, scanned tables, join types,
+ * exchange types and aggregation stages. Column ids, predicates and costs are left out on purpose,
+ * so the same query planned with the same strategy always gets the same digest, and a plan flip
+ * (e.g. a different join order or distribution after statistics refresh) gets a different one.
+ */
+public class PlanDigestBuilder {
+    private final StringBuilder sb = new StringBuilder();
+
+    private PlanDigestBuilder() {
+    }
+
+    public static String build(OptExpression root) {
+        if (root == null) {
+            return "";
+        }
+        PlanDigestBuilder builder = new PlanDigestBuilder();
+        builder.visit(root);
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            md.update(builder.sb.toString().getBytes(StandardCharsets.UTF_8));
+            return Hex.encodeHexString(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            return "";
+        }
+    }
+
+    private void visit(OptExpression expr) {
+        Operator op = expr.getOp();
+        sb.append(op.getOpType().name());
+        if (op instanceof PhysicalScanOperator) {
+            Table table = ((PhysicalScanOperator) op).getTable();
+            if (table != null) {
+                sb.append('[').append(table.getId()).append(':').append(table.getName()).append(']');
+            }
+        } else if (op instanceof PhysicalJoinOperator) {
+            sb.append('[').append(((PhysicalJoinOperator) op).getJoinType()).append(']');
+        } else if (op instanceof PhysicalDistributionOperator) {
+            sb.append('[').append(((PhysicalDistributionOperator) op).getDistributionSpec().getType()).append(']');
+        } else if (op instanceof PhysicalHashAggregateOperator) {
+            sb.append('[').append(((PhysicalHashAggregateOperator) op).getType()).append(']');
+        }
+
+        if (expr.arity() > 0) {
+            sb.append('(');
+            for (int i = 0; i < expr.arity(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                visit(expr.inputAt(i));
+            }
+            sb.append(')');
+        }
+    }
+}
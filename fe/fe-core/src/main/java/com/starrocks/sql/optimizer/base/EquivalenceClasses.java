@@ -108,12 +108,13 @@ public class EquivalenceClasses implements Cloneable {
         // b -> set(a, b)
         // cacheColumnToEquivalenceClass will only return:
         // set(a, b)
+        // All columns of one equal class share the same set instance, so dedup by identity
+        // instead of comparing the columns of each set.
         if (cacheColumnToEquivalenceClass == null) {
             cacheColumnToEquivalenceClass = Lists.newArrayList();
-            Set<ColumnRefOperator> visited = Sets.newHashSet();
+            Set<Set<ColumnRefOperator>> visited = Sets.newIdentityHashSet();
             for (Set<ColumnRefOperator> columnRefOperators : columnToEquivalenceClass.values()) {
-                if (!visited.containsAll(columnRefOperators)) {
-                    visited.addAll(columnRefOperators);
+                if (!columnRefOperators.isEmpty() && visited.add(columnRefOperators)) {
                     cacheColumnToEquivalenceClass.add(columnRefOperators);
                 }
             }
@@ -113,7 +113,11 @@ public class ScalarOperatorRewriter {
 
     private ScalarOperator applyRuleBottomUp(ScalarOperator operator, ScalarOperatorRewriteRule rule) {
         for (int i = 0; i < operator.getChildren().size(); i++) {
-            operator.setChild(i, applyRuleBottomUp(operator.getChild(i), rule));
+            ScalarOperator child = operator.getChild(i);
+            ScalarOperator newChild = applyRuleBottomUp(child, rule);
+            if (newChild != child) {
+                operator.setChild(i, newChild);
+            }
         }
 
         ScalarOperator op = rule.apply(operator, context);
@@ -134,7 +138,11 @@ public class ScalarOperatorRewriter {
         }
 
         for (int i = 0; i < op.getChildren().size(); i++) {
-            op.setChild(i, applyRuleTopDown(op.getChild(i), rule));
+            ScalarOperator child = op.getChild(i);
+            ScalarOperator newChild = applyRuleTopDown(child, rule);
+            if (newChild != child) {
+                op.setChild(i, newChild);
+            }
         }
         return op;
     }
@@ -42,6 +42,10 @@ public class ExtractCommonPredicateRule extends TopDownScalarOperatorRewriteRule
     @Override
     public ScalarOperator visitCompoundPredicate(CompoundPredicateOperator predicate,
                                                  ScalarOperatorRewriteContext context) {
+        if (!predicate.isOr()) {
+            return predicate;
+        }
+
         List<ScalarOperator> orLists = Utils.extractDisjunctive(predicate);
         if (orLists.size() <= 1) {
             return predicate;
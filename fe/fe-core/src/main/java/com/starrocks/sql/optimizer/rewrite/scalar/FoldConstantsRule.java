@@ -219,11 +219,22 @@ public class FoldConstantsRule extends BottomUpScalarOperatorRewriteRule {
         return predicate;
     }
 
+    // called on every node of every rewrite pass, so avoid stream allocation here
     private boolean notAllConstant(List<ScalarOperator> operators) {
-        return !operators.stream().allMatch(ScalarOperator::isConstantRef);
+        for (ScalarOperator operator : operators) {
+            if (!operator.isConstantRef()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private boolean hasNull(List<ScalarOperator> operators) {
-        return operators.stream().anyMatch(d -> (d.isConstantRef()) && ((ConstantOperator) d).isNull());
+        for (ScalarOperator operator : operators) {
+            if (operator.isConstantRef() && ((ConstantOperator) operator).isNull()) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -225,6 +225,11 @@ public class SimplifiedPredicateRule extends BottomUpScalarOperatorRewriteRule {
     @Override
     public ScalarOperator visitCompoundPredicate(CompoundPredicateOperator predicate,
                                                  ScalarOperatorRewriteContext context) {
+        if (!predicate.isNot() && !predicate.getChild(0).isConstantRef() && !predicate.getChild(1).isConstantRef()) {
+            // nothing to simplify, most of the predicates go here
+            return predicate;
+        }
+
         // collect constant
         List<ConstantOperator> constantChildren = predicate.getChildren().stream().filter(ScalarOperator::isConstantRef)
                 .map(d -> (ConstantOperator) d).collect(Collectors.toList());
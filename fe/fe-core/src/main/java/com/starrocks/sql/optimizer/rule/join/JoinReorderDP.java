@@ -14,23 +14,18 @@
 
 package com.starrocks.sql.optimizer.rule.join;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Ordering;
+import com.starrocks.common.profile.Tracers;
 import com.starrocks.sql.optimizer.OptExpression;
 import com.starrocks.sql.optimizer.OptimizerContext;
 
 import java.util.ArrayList;
 import java.util.BitSet;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.IntStream;
-
-import static com.google.common.collect.ImmutableSet.toImmutableSet;
-import static com.google.common.collect.Sets.powerSet;
 
 public class JoinReorderDP extends JoinOrder {
     public JoinReorderDP(OptimizerContext context) {
@@ -39,6 +34,7 @@ public class JoinReorderDP extends JoinOrder {
 
     private final Map<BitSet, GroupInfo> bestPlanMemo = new HashMap<>();
     List<GroupInfo> groups = new ArrayList<>();
+    private int enumeratedJoinNum = 0;
 
     @Override
     protected void enumerate() {
@@ -46,6 +42,7 @@ public class JoinReorderDP extends JoinOrder {
         BitSet joinKeys = new BitSet();
         joinKeys.set(0, groups.size(), true);
         getBestExpr(joinKeys);
+        Tracers.count(Tracers.Module.OPTIMIZER, "JoinReorderDPEnumeratedJoins", enumeratedJoinNum);
     }
 
     @Override
@@ -70,13 +67,12 @@ public class JoinReorderDP extends JoinOrder {
 
         GroupInfo bestPlan = bestPlanMemo.get(joinKeys);
         if (bestPlan == null) {
-            Ordering<ExpressionInfo> resultComparator = Ordering.from(Comparator.comparing(ExpressionInfo::getCost));
-
-            List<ExpressionInfo> results = new ArrayList<>();
+            // keep the first plan with the lowest cost, instead of scanning all results for every partition
+            ExpressionInfo minCostPlan = null;
             List<BitSet> partitions = generatePartitions(joinKeys);
             for (BitSet partition : partitions) {
                 GroupInfo leftGroup = getBestExpr(partition);
-                if (!results.isEmpty() && leftGroup.bestExprInfo.cost > resultComparator.min(results).cost) {
+                if (minCostPlan != null && leftGroup.bestExprInfo.cost > minCostPlan.cost) {
                     continue;
                 }
 
@@ -84,7 +80,7 @@ public class JoinReorderDP extends JoinOrder {
                 otherPartition.andNot(partition);
 
                 GroupInfo rightGroup = getBestExpr(otherPartition);
-                if (!results.isEmpty() && rightGroup.bestExprInfo.cost > resultComparator.min(results).cost) {
+                if (minCostPlan != null && rightGroup.bestExprInfo.cost > minCostPlan.cost) {
                     continue;
                 }
 
@@ -96,9 +92,12 @@ public class JoinReorderDP extends JoinOrder {
                 joinExpr.get().expr.deriveLogicalPropertyItself();
                 calculateStatistics(joinExpr.get().expr);
                 computeCost(joinExpr.get());
-                results.add(joinExpr.get());
+                enumeratedJoinNum++;
+                if (minCostPlan == null || joinExpr.get().cost < minCostPlan.cost) {
+                    minCostPlan = joinExpr.get();
+                }
             }
-            ExpressionInfo minCostPlan = resultComparator.min(results);
+            Preconditions.checkState(minCostPlan != null, "no valid join order for %s", joinKeys);
 
             BitSet atoms = new BitSet();
             atoms.or(minCostPlan.leftChildExpr.atoms);
@@ -114,19 +113,18 @@ public class JoinReorderDP extends JoinOrder {
         return bestPlan;
     }
 
+    // Enumerate all non-empty proper subsets of totalNodes. Subsets are visited in the same order
+    // as the power set of node indexes, without materializing the power set of boxed integers.
     private List<BitSet> generatePartitions(BitSet totalNodes) {
-        Set<Integer> numbers = IntStream.range(0, totalNodes.cardinality()).boxed().collect(toImmutableSet());
-        Set<Set<Integer>> sets = powerSet(numbers).stream()
-                .filter(subSet -> subSet.size() > 0)
-                .filter(subSet -> subSet.size() < numbers.size())
-                .collect(toImmutableSet());
-
         List<Integer> l = bitSet2Array(totalNodes);
+        long fullMask = (1L << l.size()) - 1;
         List<BitSet> partitions = new ArrayList<>();
-        for (Set<Integer> s : sets) {
+        for (long mask = 1; mask < fullMask; mask++) {
             BitSet b = new BitSet();
-            for (Integer i : s) {
-                b.set(l.get(i));
+            for (int i = 0; i < l.size(); i++) {
+                if ((mask & (1L << i)) != 0) {
+                    b.set(l.get(i));
+                }
             }
             partitions.add(b);
         }
@@ -135,10 +133,8 @@ public class JoinReorderDP extends JoinOrder {
 
     List<Integer> bitSet2Array(BitSet bitSet) {
         List<Integer> l = Lists.newArrayList();
-        for (int i = 0; i < bitSet.size(); ++i) {
-            if (bitSet.get(i)) {
-                l.add(i);
-            }
+        for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+            l.add(i);
         }
         return l;
     }
@@ -14,6 +14,7 @@
 
 package com.starrocks.sql.optimizer.rule.transformation.materialization;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ArrayListMultimap;
@@ -2784,9 +2785,10 @@ public class MaterializedViewRewriter implements IMaterializedViewRewriter {
         return MvUtils.canonizePredicate(compensationPu);
     }
 
-    private ScalarOperator getCompensationResidualPredicate(ScalarOperator srcPu, ScalarOperator targetPu) {
+    @VisibleForTesting
+    public static ScalarOperator getCompensationResidualPredicate(ScalarOperator srcPu, ScalarOperator targetPu) {
         List<ScalarOperator> srcConjuncts = Utils.extractConjuncts(srcPu);
-        List<ScalarOperator> targetConjuncts = Utils.extractConjuncts(targetPu);
+        Set<ScalarOperator> targetConjuncts = new HashSet<>(Utils.extractConjuncts(targetPu));
         if (new HashSet<>(srcConjuncts).containsAll(targetConjuncts)) {
             srcConjuncts.removeAll(targetConjuncts);
             if (srcConjuncts.isEmpty()) {
@@ -2904,25 +2906,34 @@ public class MaterializedViewRewriter implements IMaterializedViewRewriter {
 
     // check whether each target equivalence classes is contained in source equivalence classes.
     // if any of target equivalence class cannot be contained, return null
-    private Multimap<Integer, Integer> computeECMapping(List<Set<ColumnRefOperator>> sourceEquivalenceClassesList,
-                                                        List<Set<ColumnRefOperator>> targetEquivalenceClassesList) {
+    @VisibleForTesting
+    public static Multimap<Integer, Integer> computeECMapping(List<Set<ColumnRefOperator>> sourceEquivalenceClassesList,
+                                                              List<Set<ColumnRefOperator>> targetEquivalenceClassesList) {
         Multimap<Integer, Integer> mapping = ArrayListMultimap.create();
+        // equivalence classes are disjoint, so a target class can only be contained in the source class
+        // of its first column, index source columns once instead of testing every source class.
+        Map<ColumnRefOperator, Integer> sourceColumnToIndex = Maps.newHashMap();
+        for (int j = 0; j < sourceEquivalenceClassesList.size(); j++) {
+            for (ColumnRefOperator column : sourceEquivalenceClassesList.get(j)) {
+                sourceColumnToIndex.putIfAbsent(column, j);
+            }
+        }
         for (int i = 0; i < targetEquivalenceClassesList.size(); i++) {
             final Set<ColumnRefOperator> targetSet = targetEquivalenceClassesList.get(i);
-            boolean contained = false;
-            for (int j = 0; j < sourceEquivalenceClassesList.size(); j++) {
-                final Set<ColumnRefOperator> srcSet = sourceEquivalenceClassesList.get(j);
-                // targetSet is converted into the same relationId, so just use containAll
-                if (srcSet.containsAll(targetSet)) {
-                    mapping.put(j, i);
-                    contained = true;
-                    // once there is a mapping from src -> target, compensations can be done.
-                    break;
+            if (targetSet.isEmpty()) {
+                if (sourceEquivalenceClassesList.isEmpty()) {
+                    return null;
                 }
+                mapping.put(0, i);
+                continue;
             }
-            if (!contained) {
+            Integer j = sourceColumnToIndex.get(targetSet.iterator().next());
+            // targetSet is converted into the same relationId, so just use containAll
+            if (j == null || !sourceEquivalenceClassesList.get(j).containsAll(targetSet)) {
                 return null;
             }
+            // once there is a mapping from src -> target, compensations can be done.
+            mapping.put(j, i);
         }
         return mapping;
     }
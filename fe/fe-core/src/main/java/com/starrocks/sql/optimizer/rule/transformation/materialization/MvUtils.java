@@ -169,8 +169,10 @@ public class MvUtils {
                 logMVPrepare("Cannot find materialized view from mvId:{}", mvId);
                 continue;
             }
-            newMvs.add(table);
-            mvs.add((MaterializedView) table);
+            // skip mvs which have been visited in the upper levels, their nested mvs are already collected
+            if (mvs.add((MaterializedView) table)) {
+                newMvs.add(table);
+            }
         }
         getRelatedMvs(connectContext, maxLevel, currentLevel + 1, newMvs, mvs);
     }
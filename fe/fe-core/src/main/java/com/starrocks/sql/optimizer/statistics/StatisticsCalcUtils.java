@@ -14,10 +14,13 @@
 
 package com.starrocks.sql.optimizer.statistics;
 
+import com.google.common.collect.ImmutableList;
 import com.starrocks.catalog.Column;
 import com.starrocks.catalog.OlapTable;
 import com.starrocks.catalog.Partition;
 import com.starrocks.catalog.Table;
+import com.starrocks.common.Pair;
+import com.starrocks.common.profile.Tracers;
 import com.starrocks.server.GlobalStateMgr;
 import com.starrocks.sql.optimizer.OptimizerContext;
 import com.starrocks.sql.optimizer.operator.Operator;
@@ -82,6 +85,35 @@ public class StatisticsCalcUtils {
     }
 
     public static long getTableRowCount(Table table, Operator node, OptimizerContext optimizerContext) {
+        // the dump info collects partition row counts during the computation, so don't hit the cache when dumping
+        if (optimizerContext == null || optimizerContext.getDumpInfo() != null ||
+                !table.isNativeTableOrMaterializedView() ||
+                node.getOpType() == OperatorType.LOGICAL_BINLOG_SCAN ||
+                node.getOpType() == OperatorType.PHYSICAL_STREAM_SCAN) {
+            return computeTableRowCount(table, node, optimizerContext);
+        }
+
+        // the same scan is derived many times in memo (pruned partitions, mv rewrite alternatives, logical and
+        // physical scans), and the row count depends only on the table and the selected partitions
+        List<Long> selectedPartitionIds = node.isLogical() ?
+                ((LogicalOlapScanOperator) node).getSelectedPartitionId() :
+                ((PhysicalOlapScanOperator) node).getSelectedPartitionId();
+        Pair<Long, List<Long>> key = Pair.create(table.getId(), selectedPartitionIds);
+        Map<Pair<Long, List<Long>>, Long> rowCountCache = optimizerContext.getTableRowCountCache();
+        Long rowCount = rowCountCache.get(key);
+        if (rowCount != null) {
+            Tracers.count(Tracers.Module.OPTIMIZER, "TableRowCountCacheHit", 1);
+            return rowCount;
+        }
+        Tracers.count(Tracers.Module.OPTIMIZER, "TableRowCountCacheMiss", 1);
+        rowCount = computeTableRowCount(table, node, optimizerContext);
+        // copy the partition ids, the key must not change with the scan operator
+        rowCountCache.put(Pair.create(table.getId(),
+                selectedPartitionIds == null ? null : ImmutableList.copyOf(selectedPartitionIds)), rowCount);
+        return rowCount;
+    }
+
+    private static long computeTableRowCount(Table table, Operator node, OptimizerContext optimizerContext) {
         if (table.isNativeTableOrMaterializedView()) {
             OlapTable olapTable = (OlapTable) table;
             Collection<Partition> selectedPartitions;
@@ -21,13 +21,15 @@ import com.starrocks.sql.common.StarRocksPlannerException;
 import com.starrocks.sql.optimizer.Group;
 import com.starrocks.sql.optimizer.Memo;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 public class SeriallyTaskScheduler implements TaskScheduler {
-    private final Stack<OptimizerTask> tasks;
+    // tasks are only touched by the optimizer thread, use ArrayDeque instead of the synchronized Stack
+    private final Deque<OptimizerTask> tasks;
 
     private SeriallyTaskScheduler() {
-        tasks = new Stack<>();
+        tasks = new ArrayDeque<>();
     }
 
     public static TaskScheduler create() {
@@ -38,7 +40,8 @@ public class SeriallyTaskScheduler implements TaskScheduler {
     public void executeTasks(TaskContext context) {
         long timeout = context.getOptimizerContext().getSessionVariable().getOptimizerExecuteTimeout();
         long watch = context.getOptimizerContext().optimizerElapsedMs();
-        while (!tasks.empty()) {
+        Tracers tracers = Tracers.get();
+        while (!tasks.isEmpty()) {
             if (timeout > 0 && watch > timeout) {
                 // Should have at least one valid plan
                 // group will be null when in rewrite phase
@@ -61,7 +64,7 @@ public class SeriallyTaskScheduler implements TaskScheduler {
             }
             OptimizerTask task = tasks.pop();
             context.getOptimizerContext().setTaskContext(context);
-            try (Timer ignore = Tracers.watchScope(Tracers.Module.OPTIMIZER, task.getClass().getSimpleName())) {
+            try (Timer ignore = Tracers.watchScope(tracers, Tracers.Module.OPTIMIZER, task.getClass().getSimpleName())) {
                 task.execute();
             }
         }
@@ -14,12 +14,15 @@
 
 package com.starrocks.sql.parser;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.starrocks.analysis.Expr;
 import com.starrocks.common.Config;
 import com.starrocks.common.Pair;
 import com.starrocks.connector.parser.trino.TrinoParserUtils;
 import com.starrocks.connector.trino.TrinoParserUnsupportedException;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.qe.OriginStatement;
 import com.starrocks.qe.SessionVariable;
@@ -50,6 +53,24 @@ import static com.starrocks.sql.common.UnsupportedException.unsupportedException
 public class SqlParser {
     private static final Logger LOG = LogManager.getLogger(SqlParser.class);
     private static final String EOF = "<EOF>";
+    @VisibleForTesting
+    static final List<String> WARM_UP_STATEMENTS = ImmutableList.of(
+            "select * from t where k1 = 1 and k2 = 'a'",
+            "select k1, sum(v1), count(distinct v2) from db.t1 join t2 on t1.k1 = t2.k1 " +
+                    "where t1.dt between '2024-01-01' and '2024-01-31' and t2.v in (1, 2, 3) " +
+                    "group by k1 having sum(v1) > 10 order by 2 desc limit 10",
+            "with cte as (select k1, v1, row_number() over (partition by k1 order by v1) as rn from t1) " +
+                    "select cast(k1 as bigint), case when v1 is null then 0 else v1 end from cte " +
+                    "where rn <= 3 and exists (select 1 from t2 where t2.k1 = cte.k1) " +
+                    "union all select k1, v1 from t3 left outer join t4 using (k1)",
+            "insert into t1 (k1, v1) values (1, 'a'), (2, 'b')",
+            "insert into t1 select * from t2 where v1 like '%a%'",
+            "update t1 set v1 = v1 + 1 where k1 = 1",
+            "delete from t1 where k1 = 1",
+            "set enable_profile = true",
+            "show tables from db"
+    );
+
     private final AstBuilder.AstBuilderFactory astBuilderFactory;
 
     public SqlParser(AstBuilder.AstBuilderFactory astBuilderFactory) {
@@ -235,8 +256,15 @@ public class SqlParser {
             // try SLL mode with BailErrorStrategy firstly
             parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
             parser.setErrorHandler(new StarRocksBailErrorStrategy());
-            return Pair.create(parseFunction.apply(parser), parser);
+            ParserRuleContext context = parseFunction.apply(parser);
+            if (MetricRepo.hasInit) {
+                MetricRepo.COUNTER_SQL_PARSER_SLL.increase(1L);
+            }
+            return Pair.create(context, parser);
         } catch (ParseCancellationException e) {
+            if (MetricRepo.hasInit) {
+                MetricRepo.COUNTER_SQL_PARSER_LL_FALLBACK.increase(1L);
+            }
             // if we fail, parse with LL mode with our own error strategy
             // rewind input stream
             tokenStream.seek(0);
@@ -247,6 +275,24 @@ public class SqlParser {
         }
     }
 
+    /**
+     * ANTLR keeps the DFA built by adaptive prediction in static fields of the generated parser, and it starts
+     * empty, so the first statements after FE start are parsed much slower than the later ones.
+     * Parse some typical statements at startup to build the DFA before serving users.
+     */
+    public static void warmUp() {
+        long startTime = System.currentTimeMillis();
+        SessionVariable sessionVariable = new SessionVariable();
+        for (String sql : WARM_UP_STATEMENTS) {
+            try {
+                invokeParser(sql, sessionVariable, StarRocksParser::sqlStatements);
+            } catch (Exception e) {
+                LOG.warn("failed to warm up sql parser with [{}]", sql, e);
+            }
+        }
+        LOG.info("finished warming up sql parser, cost {}ms", System.currentTimeMillis() - startTime);
+    }
+
     public static String getTokenDisplay(Token t) {
         if (t == null) {
             return "<no token>";
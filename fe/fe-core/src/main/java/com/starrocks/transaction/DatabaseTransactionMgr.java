@@ -140,9 +140,14 @@ public class DatabaseTransactionMgr {
      * idToRunningTransactionState: transactionId -> running TransactionState
      * idToFinalStatusTransactionState: transactionId -> final status TransactionState
      * finalStatusTransactionStateDeque: to store transactionStates with final status
+     *
+     * The two id maps are only modified under the write lock, but are concurrent maps so that a point lookup
+     * by transaction id (see getTransactionState) does not need to take the lock. To keep such a lookup from
+     * missing a transaction that is moving to a final status, a transaction is always added to
+     * idToFinalStatusTransactionState before it is removed from idToRunningTransactionState.
      * */
-    private final Map<Long, TransactionState> idToRunningTransactionState = Maps.newHashMap();
-    private final Map<Long, TransactionState> idToFinalStatusTransactionState = Maps.newHashMap();
+    private final Map<Long, TransactionState> idToRunningTransactionState = Maps.newConcurrentMap();
+    private final Map<Long, TransactionState> idToFinalStatusTransactionState = Maps.newConcurrentMap();
     private final ArrayDeque<TransactionState> finalStatusTransactionStateDeque = new ArrayDeque<>();
 
     // store committed transactions' dependency relationships
@@ -510,13 +515,7 @@ public class DatabaseTransactionMgr {
                     transactionId);
             return;
         }
-        TransactionState transactionState = null;
-        readLock();
-        try {
-            transactionState = idToRunningTransactionState.get(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = idToRunningTransactionState.get(transactionId);
         if (transactionState == null) {
             // If the transaction state does not exist, this task might have been aborted by
             // the txntimeoutchecker thread. We need to perform some additional work.
@@ -612,12 +611,11 @@ public class DatabaseTransactionMgr {
     }
 
     public TransactionState getTransactionState(Long transactionId) {
-        readLock();
-        try {
-            return unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
+        if (transactionId == null) {
+            return null;
         }
+        // lock free, see the comment of idToRunningTransactionState
+        return unprotectedGetTransactionState(transactionId);
     }
 
     private TransactionState unprotectedGetTransactionState(Long transactionId) {
@@ -1271,6 +1269,7 @@ public class DatabaseTransactionMgr {
                 transactionGraph.add(transactionState.getTransactionId(), transactionState.getTableIdList());
             }
         } else {
+            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             if (idToRunningTransactionState.remove(transactionState.getTransactionId()) != null) {
                 if (transactionState.getSourceType() == TransactionState.LoadJobSourceType.ROUTINE_LOAD_TASK) {
                     runningRoutineLoadTxnNums--;
@@ -1279,7 +1278,6 @@ public class DatabaseTransactionMgr {
                 }
             }
             transactionGraph.remove(transactionState.getTransactionId());
-            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             finalStatusTransactionStateDeque.add(transactionState);
         }
         updateTxnLabels(transactionState);
@@ -1316,6 +1314,7 @@ public class DatabaseTransactionMgr {
         }
 
         for (TransactionState transactionState : stateBatch.getTransactionStates()) {
+            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             if (idToRunningTransactionState.remove(transactionState.getTransactionId()) != null) {
                 if (transactionState.getSourceType() == TransactionState.LoadJobSourceType.ROUTINE_LOAD_TASK) {
                     runningRoutineLoadTxnNums--;
@@ -1324,7 +1323,6 @@ public class DatabaseTransactionMgr {
                 }
             }
             transactionGraph.remove(transactionState.getTransactionId());
-            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             finalStatusTransactionStateDeque.add(transactionState);
             updateTxnLabels(transactionState);
         }
@@ -825,6 +825,11 @@ public class TransactionState implements Writable {
     public void clearAfterPublished() {
         publishVersionTasks.clear();
         finishChecker = null;
+        // The commit infos are only needed to apply the visible version to replicas, which is already done
+        // once the txn is visible. They hold one entry per loaded replica and would otherwise stay in memory
+        // until the finished txn expires.
+        tabletCommitInfos = null;
+        clearAutomaticPartitionSnapshot();
     }
 
     public void setErrorMsg(String errMsg) {
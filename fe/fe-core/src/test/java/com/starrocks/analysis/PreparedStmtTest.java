@@ -17,6 +17,7 @@ package com.starrocks.analysis;
 import com.starrocks.common.AnalysisException;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.qe.PrepareStmtContext;
+import com.starrocks.qe.SessionVariable;
 import com.starrocks.qe.StmtExecutor;
 import com.starrocks.sql.ast.PrepareStmt;
 import com.starrocks.sql.ast.StatementBase;
@@ -28,6 +29,8 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -95,6 +98,28 @@ public class PreparedStmtTest{
         Assert.assertFalse(executor.isForwardToLeader());
     }
 
+    @Test
+    public void testPlanVariables() {
+        SessionVariable sessionVariable = ctx.getSessionVariable();
+        boolean enableShortCircuit = sessionVariable.isEnableShortCircuit();
+        String timeZone = sessionVariable.getTimeZone();
+        List<Object> planVariables = PrepareStmtContext.getPlanVariables(sessionVariable);
+        Assert.assertEquals(planVariables, PrepareStmtContext.getPlanVariables(sessionVariable));
+        try {
+            sessionVariable.setEnableShortCircuit(!enableShortCircuit);
+            Assert.assertNotEquals(planVariables, PrepareStmtContext.getPlanVariables(sessionVariable));
+        } finally {
+            sessionVariable.setEnableShortCircuit(enableShortCircuit);
+        }
+        try {
+            sessionVariable.setTimeZone("Asia/Tokyo".equals(timeZone) ? "Asia/Seoul" : "Asia/Tokyo");
+            Assert.assertNotEquals(planVariables, PrepareStmtContext.getPlanVariables(sessionVariable));
+        } finally {
+            sessionVariable.setTimeZone(timeZone);
+        }
+        Assert.assertEquals(planVariables, PrepareStmtContext.getPlanVariables(sessionVariable));
+    }
+
     @Test
     public void testPrepareStatementParser() {
         String sql = "PREPARE stmt1 FROM insert into demo.prepare_stmt values (?, ?, ?, ?);";
@@ -166,4 +166,26 @@ public class MvPreProcessorWithSSBBench extends MaterializedViewTestBase {
         PlanTestBase.assertContains(plan, "lineorder_flat_mv");
         connectContext.getSessionVariable().setCboMaterializedViewRewriteRelatedMVsLimit(oldVal);
     }
+
+    @Test
+    @BenchmarkOptions(warmupRounds = 1, benchmarkRounds = BENCHMARK_RUNS)
+    // Query scans all base tables of the mvs, candidate selection does not need to resolve mv base tables
+    public void testChooseCandidatesWithAllBaseTables() throws Exception {
+        String query = "select sum(LO_EXTENDEDPRICE * LO_DISCOUNT) AS revenue\n" +
+                "from lineorder\n" +
+                "join customer on C_CUSTKEY = LO_CUSTKEY\n" +
+                "join supplier on S_SUPPKEY = LO_SUPPKEY\n" +
+                "join part on P_PARTKEY = LO_PARTKEY\n" +
+                "join dates on lo_orderdate = d_datekey\n" +
+                "where LO_ORDERDATE >= 19940101 and LO_ORDERDATE <= 19941231\n" +
+                "and lo_discount between 5 and 7;";
+        int oldVal = connectContext.getSessionVariable().getCboMaterializedViewRewriteRelatedMVsLimit();
+        connectContext.getSessionVariable().setCboMaterializedViewRewriteRelatedMVsLimit(MV_NUMS);
+        try {
+            String plan = getFragmentPlan(query);
+            PlanTestBase.assertContains(plan, "lineorder_flat_mv");
+        } finally {
+            connectContext.getSessionVariable().setCboMaterializedViewRewriteRelatedMVsLimit(oldVal);
+        }
+    }
 }
@@ -0,0 +1,147 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import com.starrocks.analysis.BinaryType;
+import com.starrocks.catalog.Type;
+import com.starrocks.sql.optimizer.Utils;
+import com.starrocks.sql.optimizer.base.ColumnRefFactory;
+import com.starrocks.sql.optimizer.base.EquivalenceClasses;
+import com.starrocks.sql.optimizer.operator.scalar.BinaryPredicateOperator;
+import com.starrocks.sql.optimizer.operator.scalar.ColumnRefOperator;
+import com.starrocks.sql.optimizer.operator.scalar.ConstantOperator;
+import com.starrocks.sql.optimizer.operator.scalar.ScalarOperator;
+import com.starrocks.sql.optimizer.rule.transformation.materialization.MaterializedViewRewriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the equivalence classes, equivalence class mapping and residual compensation
+ * used by mv predicate compensation with wide conjunctive predicates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1)
+@Measurement(time = 1, timeUnit = TimeUnit.SECONDS)
+public class MvPredicateCompensationBench {
+
+    @Param({"10", "100", "500", "2000"})
+    private int predicateSize;
+
+    private List<Pair> equalPairs;
+    private List<Set<ColumnRefOperator>> sourceEquivalenceClasses;
+    private List<Set<ColumnRefOperator>> targetEquivalenceClasses;
+    private ScalarOperator sourceResidual;
+    private ScalarOperator targetResidual;
+
+    private static class Pair {
+        private final ColumnRefOperator left;
+        private final ColumnRefOperator right;
+
+        private Pair(ColumnRefOperator left, ColumnRefOperator right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MvPredicateCompensationBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    /**
+     * source: c0 = c1 AND c1 = c2 AND ... AND c0 > 0 AND c1 > 1 AND ...
+     * every 10 columns form one source equivalence class.
+     * target: the same equalities restricted to every 5 columns and the range predicates of even columns,
+     * so each target class is contained in one source class and the target residual is half of the source.
+     */
+    @Setup
+    public void setup() {
+        ColumnRefFactory factory = new ColumnRefFactory();
+        List<ColumnRefOperator> columns = Lists.newArrayList();
+        for (int i = 0; i < predicateSize; i++) {
+            columns.add(factory.create("c" + i, Type.INT, true));
+        }
+        equalPairs = Lists.newArrayList();
+        EquivalenceClasses targetEc = new EquivalenceClasses();
+        for (int i = 1; i < predicateSize; i++) {
+            if (i % 10 != 0) {
+                equalPairs.add(new Pair(columns.get(i - 1), columns.get(i)));
+            }
+            if (i % 5 != 0) {
+                targetEc.addEquivalence(columns.get(i - 1), columns.get(i));
+            }
+        }
+        EquivalenceClasses sourceEc = new EquivalenceClasses();
+        for (Pair pair : equalPairs) {
+            sourceEc.addEquivalence(pair.left, pair.right);
+        }
+        sourceEquivalenceClasses = sourceEc.getEquivalenceClasses();
+        targetEquivalenceClasses = targetEc.getEquivalenceClasses();
+
+        List<ScalarOperator> sourceConjuncts = Lists.newArrayList();
+        List<ScalarOperator> targetConjuncts = Lists.newArrayList();
+        for (int i = 0; i < predicateSize; i++) {
+            ScalarOperator conjunct =
+                    new BinaryPredicateOperator(BinaryType.GT, columns.get(i), ConstantOperator.createInt(i));
+            sourceConjuncts.add(conjunct);
+            if (i % 2 == 0) {
+                targetConjuncts.add(conjunct);
+            }
+        }
+        sourceResidual = Utils.compoundAnd(sourceConjuncts);
+        targetResidual = Utils.compoundAnd(targetConjuncts);
+    }
+
+    @Benchmark
+    public void bench_EquivalenceClasses() {
+        EquivalenceClasses ec = new EquivalenceClasses();
+        for (Pair pair : equalPairs) {
+            ec.addEquivalence(pair.left, pair.right);
+        }
+        List<Set<ColumnRefOperator>> classes = ec.getEquivalenceClasses();
+    }
+
+    @Benchmark
+    public void bench_PredicateCompensation() {
+        Multimap<Integer, Integer> mapping =
+                MaterializedViewRewriter.computeECMapping(sourceEquivalenceClasses, targetEquivalenceClasses);
+        ScalarOperator residual = MaterializedViewRewriter.getCompensationResidualPredicate(sourceResidual,
+                targetResidual);
+    }
+}
@@ -25,6 +25,7 @@ import com.starrocks.scheduler.TaskRunBuilder;
 import com.starrocks.scheduler.TaskRunScheduler;
 import com.starrocks.server.GlobalStateMgr;
 import com.starrocks.sql.optimizer.rule.transformation.materialization.MvRewriteTestBase;
+import com.starrocks.utframe.UtFrameUtils;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
@@ -37,6 +38,7 @@ public class TaskSchedulerBench extends MvRewriteTestBase {
 
     // private static final int TASK_NUM = Config.task_runs_queue_length;
     private static final int TASK_NUM = 10;
+    private static final int OPTIMIZER_JOIN_NUM = 8;
 
     @Rule
     public TestRule benchRun = new BenchmarkRule();
@@ -46,6 +48,15 @@ public class TaskSchedulerBench extends MvRewriteTestBase {
         MvRewriteTestBase.beforeClass();
         Config.task_runs_concurrency = TASK_NUM;
         LOG.info("prepared {} tasks", TASK_NUM);
+
+        starRocksAssert.withTable("CREATE TABLE `bench_t0` (\n" +
+                "  `v1` bigint NULL,\n" +
+                "  `v2` bigint NULL,\n" +
+                "  `v3` bigint NULL\n" +
+                ") ENGINE=OLAP\n" +
+                "DUPLICATE KEY(`v1`)\n" +
+                "DISTRIBUTED BY HASH(`v1`) BUCKETS 3\n" +
+                "PROPERTIES (\"replication_num\" = \"1\");");
     }
 
     @Before
@@ -68,6 +79,21 @@ public class TaskSchedulerBench extends MvRewriteTestBase {
         return taskRun;
     }
 
+    /**
+     * Measure the optimizer task scheduler with a wide join, which pushes most of the
+     * OptimizeGroupTask/ApplyRuleTask/EnforceAndCostTask through SeriallyTaskScheduler.
+     */
+    @Test
+    @BenchmarkOptions(warmupRounds = 3, benchmarkRounds = 20)
+    public void testOptimizerTaskSchedulerWithMultiJoin() throws Exception {
+        StringBuilder sql = new StringBuilder("select count(*) from bench_t0 a0");
+        for (int i = 1; i < OPTIMIZER_JOIN_NUM; i++) {
+            sql.append(" join bench_t0 a").append(i)
+                    .append(" on a").append(i - 1).append(".v2 = a").append(i).append(".v1");
+        }
+        UtFrameUtils.getPlanAndFragment(connectContext, sql.toString());
+    }
+
     @Test
     @BenchmarkOptions(warmupRounds = 1, benchmarkRounds = 1)
     public void testTaskSchedulerWithDifferentTaskIds() {
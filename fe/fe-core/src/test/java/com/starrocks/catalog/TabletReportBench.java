@@ -0,0 +1,109 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.catalog;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.starrocks.thrift.TPartitionVersionInfo;
+import com.starrocks.thrift.TStorageMedium;
+import com.starrocks.thrift.TTablet;
+import com.starrocks.thrift.TTabletInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the tablet diff of a full tablet report from one backend against TabletInvertedIndex.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class TabletReportBench {
+    private static final long DB_ID = 1L;
+    private static final long TABLE_ID = 2L;
+    private static final long PARTITION_ID = 3L;
+    private static final long INDEX_ID = 4L;
+    private static final long BACKEND_ID = 10001L;
+    private static final int SCHEMA_HASH = 123;
+    private static final long VERSION = 2L;
+
+    @Param({"100000", "1000000"})
+    private int tabletNum;
+
+    private TabletInvertedIndex invertedIndex;
+    private Map<Long, TTablet> backendTablets;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TabletReportBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        invertedIndex = new TabletInvertedIndex();
+        backendTablets = Maps.newHashMapWithExpectedSize(tabletNum);
+        TabletMeta tabletMeta = new TabletMeta(DB_ID, TABLE_ID, PARTITION_ID, INDEX_ID, SCHEMA_HASH, TStorageMedium.HDD);
+        for (long tabletId = 1; tabletId <= tabletNum; tabletId++) {
+            invertedIndex.addTablet(tabletId, tabletMeta);
+            invertedIndex.addReplica(tabletId,
+                    new Replica(tabletId + tabletNum, BACKEND_ID, Replica.ReplicaState.NORMAL, VERSION, SCHEMA_HASH));
+            TTabletInfo tabletInfo = new TTabletInfo(tabletId, SCHEMA_HASH, VERSION, 0, 0, 0);
+            backendTablets.put(tabletId, new TTablet(Lists.newArrayList(tabletInfo)));
+        }
+    }
+
+    @Benchmark
+    public Set<Long> tabletReport() {
+        Set<Long> foundTabletsWithValidSchema = Sets.newHashSet();
+        ListMultimap<Long, Long> tabletSyncMap = ArrayListMultimap.create();
+        ListMultimap<Long, Long> tabletDeleteFromMeta = ArrayListMultimap.create();
+        Map<Long, TTabletInfo> foundTabletsWithInvalidSchema = Maps.newHashMap();
+        ListMultimap<TStorageMedium, Long> tabletMigrationMap = ArrayListMultimap.create();
+        Map<Long, Map<Long, Map<Long, TPartitionVersionInfo>>> transactionsToPublish = Maps.newHashMap();
+        Map<Long, Long> transactionsToCommitTime = Maps.newHashMap();
+        ListMultimap<Long, Long> transactionsToClear = ArrayListMultimap.create();
+        ListMultimap<Long, Long> tabletRecoveryMap = ArrayListMultimap.create();
+        Set<Long> tabletWithoutPartitionId = Sets.newHashSet();
+        invertedIndex.tabletReport(BACKEND_ID, backendTablets, new HashMap<>(), tabletSyncMap, tabletDeleteFromMeta,
+                foundTabletsWithValidSchema, foundTabletsWithInvalidSchema, tabletMigrationMap, transactionsToPublish,
+                transactionsToCommitTime, transactionsToClear, tabletRecoveryMap, tabletWithoutPartitionId);
+        return foundTabletsWithValidSchema;
+    }
+}
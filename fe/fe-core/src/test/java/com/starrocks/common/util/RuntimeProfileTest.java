@@ -248,6 +248,37 @@ public class RuntimeProfileTest {
         profile.prettyPrint(builder, "");
     }
 
+    @Test
+    public void testUpdateExistingAndNewCounters() {
+        RuntimeProfile profile = new RuntimeProfile("profile");
+        TRuntimeProfileTree tprofileTree = new TRuntimeProfileTree();
+        TRuntimeProfileNode tnode = new TRuntimeProfileNode();
+        tnode.name = "profile";
+        tnode.num_children = 0;
+        tnode.counters = Lists.newArrayList();
+        tnode.counters.add(new TCounter("counter1", TUnit.UNIT, 1));
+        tnode.child_counters_map = Maps.newHashMap();
+        tnode.child_counters_map.put("", Sets.newHashSet("counter1"));
+        tprofileTree.addToNodes(tnode);
+
+        profile.update(tprofileTree);
+        Assert.assertEquals(1, profile.getCounter("counter1").getValue());
+
+        // only values change, counters are updated in place
+        tnode.counters.get(0).setValue(2);
+        profile.update(tprofileTree);
+        Assert.assertEquals(2, profile.getCounter("counter1").getValue());
+
+        // a new child counter shows up, it must still be added under its parent
+        tnode.counters.get(0).setValue(3);
+        tnode.counters.add(new TCounter("counter1Child", TUnit.UNIT, 4));
+        tnode.child_counters_map.put("counter1", Sets.newHashSet("counter1Child"));
+        profile.update(tprofileTree);
+        Assert.assertEquals(3, profile.getCounter("counter1").getValue());
+        Assert.assertEquals(4, profile.getCounter("counter1Child").getValue());
+        Assert.assertTrue(profile.getChildCounterMap().get("counter1").contains("counter1Child"));
+    }
+
     @Test
     public void testMergeIsomorphicProfiles1() {
         List<RuntimeProfile> profiles = Lists.newArrayList();
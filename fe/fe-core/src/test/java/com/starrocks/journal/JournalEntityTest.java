@@ -0,0 +1,63 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.journal;
+
+import com.starrocks.common.io.DataOutputBuffer;
+import com.starrocks.common.io.Text;
+import com.starrocks.persist.OperationType;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+public class JournalEntityTest {
+
+    private static DataOutputBuffer serialize(String content) throws IOException {
+        JournalEntity entity = new JournalEntity();
+        entity.setOpCode(OperationType.OP_SAVE_NEXTID);
+        entity.setData(new Text(content));
+        DataOutputBuffer buffer = new DataOutputBuffer();
+        entity.write(buffer);
+        return buffer;
+    }
+
+    private static JournalEntity deserialize(DataOutputBuffer buffer) throws IOException {
+        JournalEntity entity = new JournalEntity();
+        entity.readFields(new DataInputStream(new ByteArrayInputStream(buffer.getData(), 0, buffer.getLength())));
+        return entity;
+    }
+
+    @Test
+    public void testCompressedJournalReplay() throws IOException {
+        String content = StringUtils.repeat("add partition p1 ", 10000);
+        DataOutputBuffer raw = serialize(content);
+        DataOutputBuffer compressed = JournalEntity.compress(raw);
+        Assert.assertTrue(compressed.getLength() < raw.getLength());
+
+        JournalEntity entity = deserialize(compressed);
+        Assert.assertEquals(OperationType.OP_SAVE_NEXTID, entity.getOpCode());
+        Assert.assertEquals(content, entity.getData().toString());
+    }
+
+    @Test
+    public void testIncompressibleJournalKeptAsIs() throws IOException {
+        DataOutputBuffer raw = serialize("1");
+        Assert.assertSame(raw, JournalEntity.compress(raw));
+        Assert.assertEquals("1", deserialize(raw).getData().toString());
+    }
+}
@@ -244,6 +244,20 @@ public class MysqlChannelTest {
                         return writeLen;
                     }
                 };
+
+                // Packets larger than the send buffer are written together with the buffered header.
+                channel.write((ByteBuffer[]) any);
+                minTimes = 1;
+                result = new Delegate() {
+                    long fakeWrite(ByteBuffer[] buffers) {
+                        long writeLen = 0;
+                        for (ByteBuffer buffer : buffers) {
+                            writeLen += buffer.remaining();
+                            buffer.position(buffer.limit());
+                        }
+                        return writeLen;
+                    }
+                };
             }
         };
 
@@ -253,6 +267,7 @@ public class MysqlChannelTest {
 
         buf = ByteBuffer.allocate(0xffffff0);
         channel1.sendOnePacket(buf);
+        Assert.assertEquals(0, buf.remaining());
     }
 
     @Test(expected = IOException.class)
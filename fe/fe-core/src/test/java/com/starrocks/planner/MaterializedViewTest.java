@@ -445,6 +445,27 @@ public class MaterializedViewTest extends MaterializedViewTestBase {
         testRewriteOK(mv, "select empid from emps where deptno = 10 and (locationid * 2) < 10");
     }
 
+    @Test
+    public void testEquivalenceClassesMapping() {
+        // mv equivalence classes: (empid, deptno), (locationid, commission)
+        String mv = "select empid, deptno, locationid, commission from emps " +
+                "where empid = deptno and locationid = commission";
+        testRewriteOK(mv, "select empid, deptno, locationid, commission from emps " +
+                "where empid = deptno and locationid = commission");
+        // both mv classes are contained in the single query class
+        testRewriteOK(mv, "select empid, deptno, locationid, commission from emps " +
+                "where empid = deptno and deptno = locationid and locationid = commission");
+        // (locationid, commission) has no query class
+        testRewriteFail(mv, "select empid, deptno, locationid, commission from emps " +
+                "where empid = deptno");
+        // (locationid, commission) is not a subset of the query class (empid, deptno, locationid)
+        testRewriteFail(mv, "select empid, deptno, locationid, commission from emps " +
+                "where empid = deptno and deptno = locationid");
+        // no mv class is a subset of the query classes (empid, locationid), (deptno, commission)
+        testRewriteFail(mv, "select empid, deptno, locationid, commission from emps " +
+                "where empid = locationid and deptno = commission");
+    }
+
     @Test
     public void testSwapInnerJoin() {
         String mv = "select count(*) as col1 from emps join locations on emps.locationid = locations.locationid";
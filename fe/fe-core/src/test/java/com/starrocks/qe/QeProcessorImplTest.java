@@ -0,0 +1,83 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe;
+
+import com.starrocks.catalog.MvId;
+import com.starrocks.qe.scheduler.Coordinator;
+import com.starrocks.thrift.TBatchReportExecStatusParams;
+import com.starrocks.thrift.TBatchReportExecStatusResult;
+import com.starrocks.thrift.TNetworkAddress;
+import com.starrocks.thrift.TReportExecStatusParams;
+import com.starrocks.thrift.TStatus;
+import com.starrocks.thrift.TStatusCode;
+import com.starrocks.thrift.TUniqueId;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class QeProcessorImplTest {
+
+    @Mocked
+    private Coordinator coord;
+
+    private static TReportExecStatusParams createReport(TUniqueId queryId, long instanceLo) {
+        TReportExecStatusParams params = new TReportExecStatusParams();
+        params.setQuery_id(queryId);
+        params.setFragment_instance_id(new TUniqueId(queryId.getHi(), instanceLo));
+        return params;
+    }
+
+    @Test
+    public void testBatchReportExecStatus() throws Exception {
+        TUniqueId unknownQueryId = new TUniqueId(1001L, 1L);
+        TUniqueId mvQueryId = new TUniqueId(1002L, 1L);
+        TUniqueId queryId = new TUniqueId(1003L, 1L);
+
+        QeProcessorImpl.INSTANCE.registerQuery(mvQueryId,
+                QeProcessorImpl.QueryInfo.fromMVJob(new MvId(1L, 2L), null));
+        QeProcessorImpl.INSTANCE.registerQuery(queryId, coord);
+        try {
+            TBatchReportExecStatusParams batch = new TBatchReportExecStatusParams();
+            batch.addToParams_list(createReport(unknownQueryId, 2L));
+            batch.addToParams_list(createReport(mvQueryId, 2L));
+            batch.addToParams_list(createReport(queryId, 2L));
+            batch.addToParams_list(createReport(queryId, 3L));
+            batch.addToParams_list(createReport(mvQueryId, 3L));
+
+            TBatchReportExecStatusResult result =
+                    QeProcessorImpl.INSTANCE.batchReportExecStatus(batch, new TNetworkAddress("127.0.0.1", 9060));
+
+            List<TStatusCode> statusCodes = result.getStatus_list().stream()
+                    .map(TStatus::getStatus_code)
+                    .collect(Collectors.toList());
+            Assert.assertEquals(List.of(TStatusCode.NOT_FOUND, TStatusCode.OK, TStatusCode.OK, TStatusCode.OK,
+                    TStatusCode.OK), statusCodes);
+
+            new Verifications() {
+                {
+                    coord.updateFragmentExecStatus((TReportExecStatusParams) any);
+                    times = 2;
+                }
+            };
+        } finally {
+            QeProcessorImpl.INSTANCE.unregisterQuery(mvQueryId);
+            QeProcessorImpl.INSTANCE.unregisterQuery(queryId);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe.scheduler;
+
+import com.starrocks.planner.MultiCastPlanFragment;
+import com.starrocks.planner.PlanFragment;
+import com.starrocks.qe.DefaultCoordinator;
+import com.starrocks.qe.scheduler.dag.ExecutionFragment;
+import com.starrocks.qe.scheduler.dag.FragmentInstance;
+import com.starrocks.thrift.TExecPlanFragmentParams;
+import com.starrocks.thrift.TPlanFragmentDestination;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class TFragmentInstanceFactoryTest extends SchedulerTestBase {
+
+    @Test
+    public void testShareFragmentThriftAmongInstances() throws Exception {
+        String sql = "with\n" +
+                "    w1 as (select * from lineitem)\n" +
+                "select /*+SET_VAR(cbo_cte_reuse=true,cbo_cte_reuse_rate=0)*/ count(1)\n" +
+                "from w1 v1 join w1 v2 on (v1.L_ORDERKEY = v2.L_ORDERKEY)";
+        DefaultCoordinator scheduler = getSchedulerWithQueryId(sql);
+        scheduler.startSchedulingWithoutDeploy();
+
+        TFragmentInstanceFactory factory = scheduler.getPrepareInfo().createTFragmentInstanceFactory();
+        boolean checkedSharedFragment = false;
+        boolean checkedMultiCastFragment = false;
+        for (ExecutionFragment execFragment : scheduler.getExecutionDAG().getFragmentsInPreorder()) {
+            List<FragmentInstance> instances = execFragment.getInstances();
+            if (instances.size() < 2) {
+                continue;
+            }
+            PlanFragment fragment = execFragment.getPlanFragment();
+            List<TExecPlanFragmentParams> requests = factory.create(execFragment, instances,
+                    scheduler.getJobSpec().getDescTable(), 0, 0);
+
+            if (!fragment.hasInstanceSpecificSink()) {
+                for (TExecPlanFragmentParams request : requests) {
+                    Assert.assertSame(requests.get(0).getFragment(), request.getFragment());
+                }
+                checkedSharedFragment = true;
+                continue;
+            }
+
+            Assert.assertTrue(fragment instanceof MultiCastPlanFragment);
+            for (int i = 0; i < requests.size(); i++) {
+                TExecPlanFragmentParams request = requests.get(i);
+                for (int j = 0; j < i; j++) {
+                    Assert.assertNotSame(requests.get(j).getFragment(), request.getFragment());
+                }
+                // Each instance only sends to the destinations on its own worker.
+                List<List<TPlanFragmentDestination>> destinations =
+                        request.getFragment().getOutput_sink().getMulti_cast_stream_sink().getDestinations();
+                Assert.assertFalse(destinations.isEmpty());
+                for (List<TPlanFragmentDestination> destinationsOfSink : destinations) {
+                    Assert.assertEquals(1, destinationsOfSink.size());
+                    Assert.assertEquals(instances.get(i).getWorker().getAddress(),
+                            destinationsOfSink.get(0).getDeprecated_server());
+                }
+            }
+            checkedMultiCastFragment = true;
+        }
+
+        Assert.assertTrue(checkedSharedFragment);
+        Assert.assertTrue(checkedMultiCastFragment);
+    }
+}
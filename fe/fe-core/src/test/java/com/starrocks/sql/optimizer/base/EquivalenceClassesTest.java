@@ -50,6 +50,8 @@ public class EquivalenceClassesTest {
         ec.addEquivalence(columnRef5, columnRef6);
         ec.addEquivalence(columnRef5, columnRef7);
         Assert.assertEquals(ec.getEquivalenceClass(columnRef6), ec.getEquivalenceClass(columnRef7));
+        Assert.assertEquals(2, ec.getEquivalenceClasses().size());
+        Assert.assertEquals(2, ec.clone().getEquivalenceClasses().size());
 
         EquivalenceClasses ec2 = new EquivalenceClasses();
         ec2.addEquivalence(columnRef1, columnRef2);
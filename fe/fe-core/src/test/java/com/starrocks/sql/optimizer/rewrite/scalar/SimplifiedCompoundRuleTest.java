@@ -23,6 +23,7 @@ import com.starrocks.sql.optimizer.operator.scalar.ScalarOperator;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class SimplifiedCompoundRuleTest {
     @Test
@@ -64,6 +65,19 @@ public class SimplifiedCompoundRuleTest {
         assertEquals(root, result);
     }
 
+    @Test
+    public void applyAndWithoutConstant() {
+        ScalarOperator root = new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.AND,
+                new ColumnRefOperator(1, Type.BOOLEAN, "name", true),
+                new ColumnRefOperator(2, Type.BOOLEAN, "name2", true));
+
+        SimplifiedPredicateRule rule = new SimplifiedPredicateRule();
+
+        ScalarOperator result = rule.apply(root, null);
+
+        assertSame(root, result);
+    }
+
     @Test
     public void applyOr1() {
         ScalarOperator root = new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.OR,
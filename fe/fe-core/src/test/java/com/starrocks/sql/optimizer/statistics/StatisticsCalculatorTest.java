@@ -285,6 +285,46 @@ public class StatisticsCalculatorTest {
         }
     }
 
+    @Test
+    public void testTableRowCountCache() {
+        GlobalStateMgr globalStateMgr = connectContext.getGlobalStateMgr();
+        OlapTable table = (OlapTable) globalStateMgr.getDb("statistics_test").getTable("test_all_type");
+        Collection<Partition> partitions = table.getPartitions();
+        List<Long> partitionIds =
+                partitions.stream().mapToLong(partition -> partition.getId()).boxed().collect(Collectors.toList());
+        for (Partition partition : partitions) {
+            partition.getBaseIndex().setRowCount(1000);
+        }
+
+        LogicalOlapScanOperator olapScanOperator = new LogicalOlapScanOperator(table,
+                Maps.newHashMap(), Maps.newHashMap(),
+                null, -1, null,
+                table.getBaseIndexId(),
+                partitionIds,
+                null,
+                false,
+                Lists.newArrayList(),
+                Lists.newArrayList(),
+                Lists.newArrayList(),
+                false);
+
+        OptimizerContext context = new OptimizerContext(new Memo(), columnRefFactory, connectContext);
+        Assert.assertEquals(1000 * partitions.size(),
+                StatisticsCalcUtils.getTableRowCount(table, olapScanOperator, context));
+
+        // the row count is fixed during one optimization
+        for (Partition partition : partitions) {
+            partition.getBaseIndex().setRowCount(2000);
+        }
+        Assert.assertEquals(1000 * partitions.size(),
+                StatisticsCalcUtils.getTableRowCount(table, olapScanOperator, context));
+        Assert.assertEquals(1, context.getTableRowCountCache().size());
+
+        context = new OptimizerContext(new Memo(), columnRefFactory, connectContext);
+        Assert.assertEquals(2000 * partitions.size(),
+                StatisticsCalcUtils.getTableRowCount(table, olapScanOperator, context));
+    }
+
     @Test
     public void testLogicalIcebergTableScan() {
         GlobalStateMgr globalStateMgr = connectContext.getGlobalStateMgr();
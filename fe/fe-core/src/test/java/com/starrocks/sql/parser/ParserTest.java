@@ -79,6 +79,15 @@ class ParserTest {
 
     }
 
+    @Test
+    void warmUpStatementsTest() {
+        SessionVariable sessionVariable = new SessionVariable();
+        for (String sql : SqlParser.WARM_UP_STATEMENTS) {
+            assertEquals(1, SqlParser.parse(sql, sessionVariable).size());
+        }
+        SqlParser.warmUp();
+    }
+
     @Test
     void sqlParseErrorInfoTest() {
         String sql = "select 1 form tbl";
@@ -2294,6 +2294,22 @@ public class PlanFragmentWithCostTest extends PlanTestBase {
 
     }
 
+    @Test
+    public void testPlanDigestInAuditEvent() throws Exception {
+        String joinSql = "select * from t0 join t1 on t0.v1 = t1.v4 where t0.v2 = ";
+        getFragmentPlan(joinSql + "1");
+        String joinDigest = connectContext.getAuditEventBuilder().build().planDigest;
+        Assert.assertNotNull(joinDigest);
+        Assert.assertEquals(32, joinDigest.length());
+
+        // literals don't change the plan shape
+        getFragmentPlan(joinSql + "2");
+        Assert.assertEquals(joinDigest, connectContext.getAuditEventBuilder().build().planDigest);
+
+        getFragmentPlan("select * from t0");
+        Assert.assertNotEquals(joinDigest, connectContext.getAuditEventBuilder().build().planDigest);
+    }
+
     @Test
     public void testStringInPredicateEstimate(
             @Mocked MockTpchStatisticStorage mockedStatisticStorage) throws Exception {
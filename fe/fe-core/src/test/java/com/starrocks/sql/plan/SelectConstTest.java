@@ -14,11 +14,13 @@
 
 package com.starrocks.sql.plan;
 
+import com.starrocks.mysql.MysqlCommand;
 import com.starrocks.qe.RowBatch;
 import com.starrocks.qe.scheduler.FeExecuteCoordinator;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 public class SelectConstTest extends PlanTestBase {
@@ -213,6 +215,33 @@ public class SelectConstTest extends PlanTestBase {
                 "-78883632:00:01");
     }
 
+    @Test
+    public void testExecuteInFeWithBinaryRow() throws Exception {
+        MysqlCommand command = connectContext.getCommand();
+        connectContext.setCommand(MysqlCommand.COM_STMT_EXECUTE);
+        try {
+            assertFeExecuteBinaryResult("select cast(258 as int), 'ab'",
+                    new byte[] {0x00, 0x00, 0x02, 0x01, 0x00, 0x00, 0x02, 'a', 'b'});
+            assertFeExecuteBinaryResult("select cast(null as int), cast(1 as tinyint)",
+                    new byte[] {0x00, 0x04, 0x01});
+            assertFeExecuteBinaryResult("select cast('2021-01-02' as date)",
+                    new byte[] {0x00, 0x00, 0x04, (byte) 0xe5, 0x07, 0x01, 0x02});
+        } finally {
+            connectContext.setCommand(command);
+        }
+    }
+
+    private void assertFeExecuteBinaryResult(String sql, byte[] expected) throws Exception {
+        ExecPlan execPlan = getExecPlan(sql);
+        Assert.assertTrue(FeExecuteCoordinator.isSupportedBinaryRow(execPlan.getOutputExprs()));
+        FeExecuteCoordinator coordinator = new FeExecuteCoordinator(connectContext, execPlan);
+        RowBatch rowBatch = coordinator.getNext();
+        ByteBuffer row = rowBatch.getBatch().getRows().get(0);
+        byte[] bytes = new byte[row.remaining()];
+        row.get(bytes);
+        Assert.assertArrayEquals(expected, bytes);
+    }
+
     private void assertFeExecuteResult(String sql, String expected) throws Exception {
         ExecPlan execPlan = getExecPlan(sql);
         FeExecuteCoordinator coordinator = new FeExecuteCoordinator(connectContext, execPlan);
@@ -65,6 +65,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -550,6 +551,99 @@ public class DatabaseTransactionMgrTest {
         assertEquals(4, masterDbTransMgr.getFinishedTxnNums());
     }
 
+    /**
+     * getTransactionState does not take the db lock, so a transaction moving to a final status must stay visible
+     * at every step, which depends on the order the two id maps are updated in.
+     */
+    @Test
+    public void testGetTransactionStateDuringFinalTransition() throws UserException {
+        FakeGlobalStateMgr.setGlobalStateMgr(masterGlobalStateMgr);
+        DatabaseTransactionMgr masterDbTransMgr = masterTransMgr.getDatabaseTransactionMgr(GlobalStateMgrTestUtil.testDbId1);
+        DatabaseTransactionMgr slaveDbTransMgr = slaveTransMgr.getDatabaseTransactionMgr(GlobalStateMgrTestUtil.testDbId1);
+        long txnId2 = lableToTxnId.get(GlobalStateMgrTestUtil.testTxnLable2);
+        long txnId6 = lableToTxnId.get(GlobalStateMgrTestUtil.testTxnLable6);
+        long txnId7 = lableToTxnId.get(GlobalStateMgrTestUtil.testTxnLable7);
+        long txnId8 = lableToTxnId.get(GlobalStateMgrTestUtil.testTxnLable8);
+        List<TransactionState> states = Lists.newArrayList(masterDbTransMgr.getTransactionState(txnId6),
+                masterDbTransMgr.getTransactionState(txnId7), masterDbTransMgr.getTransactionState(txnId8));
+        // let the follower see the committed transactions as running ones
+        for (TransactionState state : states) {
+            slaveDbTransMgr.unprotectUpsertTransactionState(state, true);
+        }
+        RunningTxnVisibilityChecker masterChecker = RunningTxnVisibilityChecker.install(masterDbTransMgr);
+        RunningTxnVisibilityChecker slaveChecker = RunningTxnVisibilityChecker.install(slaveDbTransMgr);
+
+        // running -> ABORTED
+        masterDbTransMgr.abortTransaction(txnId2, "test abort transaction", null);
+        assertEquals(TransactionStatus.ABORTED, masterDbTransMgr.getTransactionState(txnId2).getTransactionStatus());
+
+        // running -> VISIBLE in batch
+        new MockUp<Table>() {
+            @Mock
+            public boolean isCloudNativeTableOrMaterializedView() {
+                return true;
+            }
+        };
+        TransactionStateBatch stateBatch = new TransactionStateBatch(states);
+        masterTransMgr.finishTransactionBatch(GlobalStateMgrTestUtil.testDbId1, stateBatch, null);
+        for (TransactionState state : states) {
+            assertEquals(TransactionStatus.VISIBLE,
+                    masterDbTransMgr.getTransactionState(state.getTransactionId()).getTransactionStatus());
+        }
+        assertEquals(Lists.newArrayList(txnId2, txnId6, txnId7, txnId8), masterChecker.removedTxnIds);
+        assertTrue(masterChecker.lostTxnIds.isEmpty());
+
+        // replay of running -> VISIBLE in batch
+        FakeGlobalStateMgr.setGlobalStateMgr(slaveGlobalStateMgr);
+        slaveTransMgr.replayUpsertTransactionStateBatch(stateBatch);
+        for (TransactionState state : states) {
+            assertEquals(TransactionStatus.VISIBLE,
+                    slaveDbTransMgr.getTransactionState(state.getTransactionId()).getTransactionStatus());
+        }
+        assertEquals(Lists.newArrayList(txnId6, txnId7, txnId8), slaveChecker.removedTxnIds);
+        assertTrue(slaveChecker.lostTxnIds.isEmpty());
+    }
+
+    /**
+     * Replaces the running transaction map of a DatabaseTransactionMgr, and records the transactions which
+     * getTransactionState cannot find right before or right after they are removed from it.
+     */
+    private static class RunningTxnVisibilityChecker extends ConcurrentHashMap<Long, TransactionState> {
+        private final DatabaseTransactionMgr mgr;
+        private final List<Long> removedTxnIds = new ArrayList<>();
+        private final List<Long> lostTxnIds = new ArrayList<>();
+
+        private RunningTxnVisibilityChecker(DatabaseTransactionMgr mgr) {
+            this.mgr = mgr;
+        }
+
+        static RunningTxnVisibilityChecker install(DatabaseTransactionMgr mgr) {
+            RunningTxnVisibilityChecker checker = new RunningTxnVisibilityChecker(mgr);
+            Map<Long, TransactionState> running = Deencapsulation.getField(mgr, "idToRunningTransactionState");
+            checker.putAll(running);
+            Deencapsulation.setField(mgr, "idToRunningTransactionState", checker);
+            return checker;
+        }
+
+        @Override
+        public TransactionState remove(Object key) {
+            Long txnId = (Long) key;
+            checkVisible(txnId);
+            TransactionState state = super.remove(key);
+            checkVisible(txnId);
+            if (state != null) {
+                removedTxnIds.add(txnId);
+            }
+            return state;
+        }
+
+        private void checkVisible(Long txnId) {
+            if (mgr.getTransactionState(txnId) == null) {
+                lostTxnIds.add(txnId);
+            }
+        }
+    }
+
     @Test
     public void testPublishVersionMissing() throws UserException {
         TransactionIdGenerator idGenerator = masterTransMgr.getTransactionIDGenerator();
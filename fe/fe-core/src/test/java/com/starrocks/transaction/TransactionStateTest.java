@@ -167,4 +167,20 @@ public class TransactionStateTest {
         Assert.assertTrue(transactionState.tabletCommitInfosContainsReplica(1001, 1001, ReplicaState.SCHEMA_CHANGE));
         Assert.assertTrue(transactionState.tabletCommitInfosContainsReplica(1001, 1001, ReplicaState.CLONE));
     }
+
+    @Test
+    public void testClearAfterPublished() {
+        UUID uuid = UUID.randomUUID();
+        TransactionState transactionState = new TransactionState(1000L, Lists.newArrayList(20000L, 20001L),
+                3000, "label123", new TUniqueId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()),
+                LoadJobSourceType.BACKEND_STREAMING, new TxnCoordinator(TxnSourceType.BE, "127.0.0.1"), 50000L,
+                60 * 1000L);
+        transactionState.setTabletCommitInfos(Lists.newArrayList(new TabletCommitInfo(10001, 10001)));
+        transactionState.addPublishVersionTask(10001L, null);
+        Assert.assertNotNull(transactionState.getTabletCommitInfos());
+
+        transactionState.clearAfterPublished();
+        Assert.assertNull(transactionState.getTabletCommitInfos());
+        Assert.assertTrue(transactionState.getPublishVersionTasks().isEmpty());
+    }
 }